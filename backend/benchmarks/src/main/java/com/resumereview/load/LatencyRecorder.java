@@ -0,0 +1,109 @@
+package com.resumereview.load;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects per-stage latencies in memory and reports counts, throughput and percentiles.
+ * Stages not named up front are added, in order, the first time they are recorded.
+ */
+public class LatencyRecorder {
+
+    private final Map<String, Samples> stages = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    public LatencyRecorder(String... stageNames) {
+        for (String stage : stageNames) {
+            stages.put(stage, new Samples());
+        }
+    }
+
+    public void record(String stage, long nanos, boolean success) {
+        stages.computeIfAbsent(stage, name -> new Samples()).add(nanos, success);
+    }
+
+    public void reset() {
+        snapshot().values().forEach(Samples::reset);
+    }
+
+    /**
+     * One row per stage that ran: requests, errors, req/s over the wall time, then p50/p95/p99/max in ms
+     */
+    public String report(long wallNanos) {
+        StringBuilder out = new StringBuilder(String.format("%-24s %8s %7s %9s %9s %9s %9s %9s%n",
+                "stage", "count", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        snapshot().forEach((stage, samples) -> {
+            long[] sorted = samples.sorted();
+            if (sorted.length == 0) {
+                return;
+            }
+            out.append(String.format("%-24s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n", stage, sorted.length,
+                    samples.errors.get(), sorted.length / (wallNanos / 1e9),
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    sorted[sorted.length - 1] / 1e6));
+        });
+        return out.toString();
+    }
+
+    /**
+     * One row per stage that ran with just the count and p50/p95/p99/max in ms, for durations
+     * reported by the server rather than timed per request
+     */
+    public String percentiles() {
+        StringBuilder out = new StringBuilder(String.format("%-24s %8s %9s %9s %9s %9s%n",
+                "stage", "count", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        snapshot().forEach((stage, samples) -> {
+            long[] sorted = samples.sorted();
+            if (sorted.length == 0) {
+                return;
+            }
+            out.append(String.format("%-24s %8d %9.1f %9.1f %9.1f %9.1f%n", stage, sorted.length,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    sorted[sorted.length - 1] / 1e6));
+        });
+        return out.toString();
+    }
+
+    private Map<String, Samples> snapshot() {
+        synchronized (stages) {
+            return new LinkedHashMap<>(stages);
+        }
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(rank, 0)] / 1e6;
+    }
+
+    private static final class Samples {
+        private long[] nanos = new long[1024];
+        private int size;
+        private final AtomicLong errors = new AtomicLong();
+
+        synchronized void add(long value, boolean success) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = value;
+            if (!success) {
+                errors.incrementAndGet();
+            }
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(nanos, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        synchronized void reset() {
+            size = 0;
+            errors.set(0);
+        }
+    }
+}
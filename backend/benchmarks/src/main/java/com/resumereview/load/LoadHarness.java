@@ -0,0 +1,280 @@
+package com.resumereview.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumereview.ResumeReviewApplication;
+import com.resumereview.service.StageTimings;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * End-to-end load harness. Boots the real application in-process on an
+ * in-memory H2 database, generates resume PDFs, and drives
+ * upload, score, suggest, list and apply over HTTP at a fixed concurrency.
+ * It reports throughput and latency percentiles per stage, percentiles of
+ * the server-side breakdown each response carries in its Server-Timing
+ * header, and the number of statements sent to the database per flow. {@code --threads=virtual}
+ * (Java 21+) serves requests on virtual threads and {@code --flow=score}
+ * stops after upload and score, for comparing the two thread modes.
+ * {@code --flow=analyze} replaces upload, score and suggest with the single
+ * combined call.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.resumereview.load.LoadHarness \
+ *     --resumes=500 --warmup=50 --concurrency=16 --pages=2 --keyword-density=0.15
+ * </pre>
+ */
+public class LoadHarness {
+
+    private static final String[] STAGES = {"upload", "score", "suggest", "list", "apply", "analyze", "flow"};
+    private static final String BOUNDARY = "resume-load-harness-boundary";
+
+    private final HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final LatencyRecorder recorder = new LatencyRecorder(STAGES);
+    private final LatencyRecorder serverTimings = new LatencyRecorder();
+    private final String baseUrl;
+    private final String flow;
+
+    LoadHarness(String baseUrl, String flow) {
+        this.baseUrl = baseUrl;
+        this.flow = flow;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int resumes = Integer.parseInt(options.getOrDefault("resumes", "200"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "20"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "8"));
+        int pages = Integer.parseInt(options.getOrDefault("pages", "2"));
+        double keywordDensity = Double.parseDouble(options.getOrDefault("keyword-density", "0.15"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        boolean virtualThreads = "virtual".equals(options.getOrDefault("threads", "platform"));
+        String flow = options.getOrDefault("flow", "full");
+        if (!List.of("full", "score", "analyze").contains(flow)) {
+            throw new IllegalArgumentException("--flow must be full, score or analyze");
+        }
+        int tomcatThreads = Integer.parseInt(options.getOrDefault("tomcat-threads", "200"));
+        int dbPool = Integer.parseInt(options.getOrDefault("db-pool", String.valueOf(Math.max(10, concurrency + 2))));
+        if (virtualThreads && Runtime.version().feature() < 21) {
+            throw new IllegalArgumentException("--threads=virtual needs Java 21 or later");
+        }
+
+        Path workDirectory = Files.createTempDirectory("resume-load");
+        Path corpus = Files.createDirectories(workDirectory.resolve("corpus"));
+        ResumeGenerator generator = new ResumeGenerator(pages, keywordDensity, seed);
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < warmup + resumes; i++) {
+            Path file = corpus.resolve("resume-" + i + ".pdf");
+            generator.writePdf(i, file);
+            files.add(file);
+        }
+        System.out.printf("Generated %d resumes (%d pages, keyword density %.2f) in %s%n",
+                files.size(), pages, keywordDensity, corpus);
+
+        StatementCounter statementCounter = new StatementCounter();
+        SpringApplication application = new SpringApplication(ResumeReviewApplication.class);
+        application.addInitializers(context -> context.getBeanFactory().addBeanPostProcessor(statementCounter));
+        try (ConfigurableApplicationContext context = application.run(
+                "--server.port=0",
+                // Not MODE=MySQL: H2's MySQL mode can hand out duplicate identity keys when concurrent inserts roll back
+                "--spring.datasource.url=jdbc:h2:mem:load;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driverClassName=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.hikari.maximum-pool-size=" + dbPool,
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--server.tomcat.threads.max=" + tomcatThreads,
+                "--spring.datasource.hikari.data-source-properties.reWriteBatchedInserts=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.resumereview=WARN",
+                // PDFBox warns about the Helvetica fallback font on every document
+                "--logging.level.org.apache.pdfbox=ERROR",
+                "--app.file-upload.directory=" + workDirectory.resolve("uploads") + "/",
+                "--app.job-catalog.import-directory=" + workDirectory.resolve("catalog") + "/")) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadHarness harness = new LoadHarness("http://localhost:" + port + "/api", flow);
+
+            harness.run(files.subList(0, warmup), concurrency);
+            harness.recorder.reset();
+            harness.serverTimings.reset();
+            statementCounter.reset();
+
+            long started = System.nanoTime();
+            harness.run(files.subList(warmup, files.size()), concurrency);
+            long wallNanos = System.nanoTime() - started;
+
+            System.out.printf("%n%s threads (%s), %d DB connections, %s flow%n",
+                    virtualThreads ? "Virtual" : "Platform",
+                    virtualThreads ? "unbounded" : "max " + tomcatThreads, dbPool, flow);
+            System.out.printf("%d flows at concurrency %d in %.1f s: %.1f flows/s%n%n",
+                    resumes, concurrency, wallNanos / 1e9, resumes / (wallNanos / 1e9));
+            System.out.print(harness.recorder.report(wallNanos));
+            System.out.printf("%nServer-Timing breakdown (stage/server stage)%n");
+            System.out.print(harness.serverTimings.percentiles());
+            System.out.printf("%nDB: %d statements (%.1f per flow), %d batched rows, %d connection checkouts%n",
+                    statementCounter.getStatements(), (double) statementCounter.getStatements() / resumes,
+                    statementCounter.getBatchRows(), statementCounter.getConnections());
+        }
+    }
+
+    /**
+     * Run one flow per file on a pool of the given size and wait for all of them
+     */
+    void run(List<Path> files, int concurrency) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<?>> flows = new ArrayList<>();
+            for (Path file : files) {
+                flows.add(pool.submit(() -> flow(file)));
+            }
+            for (Future<?> flow : flows) {
+                flow.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * upload, score, suggest, list, apply (just upload and score, or analyze, list, apply); a failed stage ends the flow
+     */
+    private void flow(Path file) {
+        long started = System.nanoTime();
+        boolean success = false;
+        try {
+            long resumeId;
+            if ("analyze".equals(flow)) {
+                JsonNode analysis = send("analyze", multipart(file, "/resumes/analyze"));
+                if (analysis == null) {
+                    return;
+                }
+                resumeId = analysis.get("resumeId").asLong();
+            } else {
+                JsonNode upload = send("upload", multipart(file, "/resumes/upload"));
+                if (upload == null) {
+                    return;
+                }
+                resumeId = upload.get("resumeId").asLong();
+
+                if (send("score", post("/review-scores/generate/" + resumeId)) == null) {
+                    return;
+                }
+                if ("score".equals(flow)) {
+                    success = true;
+                    return;
+                }
+                if (send("suggest", post("/job-suggestions/generate/" + resumeId)) == null) {
+                    return;
+                }
+            }
+            JsonNode suggestions = send("list", HttpRequest.newBuilder(uri("/job-suggestions/resume/" + resumeId + "?limit=5"))
+                    .GET().build());
+            if (suggestions == null || suggestions.isEmpty()) {
+                return;
+            }
+            long suggestionId = suggestions.get(0).get("id").asLong();
+            success = send("apply", post("/job-applications/apply?jobSuggestionId=" + suggestionId
+                    + "&resumeId=" + resumeId)) != null;
+        } finally {
+            recorder.record("flow", System.nanoTime() - started, success);
+        }
+    }
+
+    /**
+     * Send a request, recording its latency under the stage; returns the parsed body, or null on failure
+     */
+    private JsonNode send(String stage, HttpRequest request) {
+        long started = System.nanoTime();
+        boolean success = false;
+        try {
+            HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            success = response.statusCode() / 100 == 2;
+            response.headers().firstValue(StageTimings.HEADER).ifPresent(header -> recordServerTimings(stage, header));
+            if (!success) {
+                System.err.printf("%s %s -> %d %s%n", request.method(), request.uri(), response.statusCode(),
+                        new String(response.body(), StandardCharsets.UTF_8));
+                return null;
+            }
+            return response.body().length == 0 ? mapper.createObjectNode() : mapper.readTree(response.body());
+        } catch (IOException e) {
+            System.err.printf("%s %s failed: %s%n", request.method(), request.uri(), e.getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            recorder.record(stage, System.nanoTime() - started, success);
+        }
+    }
+
+    /**
+     * Record each {@code name;dur=millis} entry of a Server-Timing header under stage/name
+     */
+    private void recordServerTimings(String stage, String header) {
+        for (String metric : header.split(",")) {
+            String[] parts = metric.trim().split(";");
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("dur=")) {
+                    double millis = Double.parseDouble(param.substring(4));
+                    serverTimings.record(stage + "/" + parts[0].trim(), (long) (millis * 1e6), true);
+                }
+            }
+        }
+    }
+
+    private HttpRequest post(String path) {
+        return HttpRequest.newBuilder(uri(path)).POST(HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private HttpRequest multipart(Path file, String path) {
+        try {
+            byte[] head = ("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"file\"; filename=\""
+                    + file.getFileName() + "\"\r\nContent-Type: application/pdf\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+            byte[] tail = ("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8);
+            return HttpRequest.newBuilder(uri(path))
+                    .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                    .POST(HttpRequest.BodyPublishers.ofByteArrays(List.of(head, Files.readAllBytes(file), tail)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read " + file, e);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,97 @@
+package com.resumereview.load;
+
+import com.resumereview.service.FeatureVocabulary;
+import com.resumereview.service.ResumeCorpus;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Produces plausible, unique resume PDFs of a given length. A share of the
+ * words (the keyword density) is drawn from the scoring vocabulary and the
+ * rest from ordinary filler, so the same generator can produce keyword-poor
+ * and keyword-stuffed documents. Output is deterministic for a seed.
+ */
+public class ResumeGenerator {
+
+    private static final int LINES_PER_PAGE = 60;
+    private static final int WORDS_PER_LINE = 12;
+
+    private static final String[] FIRST_NAMES = {"Alex", "Priya", "Jordan", "Mei", "Carlos", "Fatima", "Noah", "Aisha",
+            "Lukas", "Sofia", "Kenji", "Amara"};
+    private static final String[] LAST_NAMES = {"Morgan", "Raman", "Lee", "Chen", "Garcia", "Khan", "Schmidt", "Okafor",
+            "Rossi", "Tanaka", "Novak", "Silva"};
+    private static final String[] SECTIONS = {"Experience", "Projects", "Education", "Skills", "Certifications",
+            "Achievements"};
+    private static final String[] FILLER = {"delivered", "owned", "improved", "designed", "built", "reduced", "latency",
+            "customers", "platform", "team", "weekly", "releases", "quality", "migrated", "service", "reporting",
+            "stakeholders", "roadmap", "incident", "on-call", "reliability", "budget", "mentored", "interns",
+            "launched", "feature", "revenue", "percent", "pipeline", "automation", "partnered", "operations"};
+
+    static {
+        // PDFBox warns about the Helvetica fallback font on every generated document
+        LoggingSystem.get(ResumeGenerator.class.getClassLoader()).setLogLevel("org.apache.pdfbox", LogLevel.ERROR);
+    }
+
+    private final int pages;
+    private final double keywordDensity;
+    private final Random random;
+    private final List<String> keywords;
+
+    public ResumeGenerator(int pages, double keywordDensity, long seed) {
+        if (pages < 1) {
+            throw new IllegalArgumentException("pages must be at least 1");
+        }
+        if (keywordDensity < 0 || keywordDensity > 1) {
+            throw new IllegalArgumentException("keyword density must be between 0 and 1");
+        }
+        this.pages = pages;
+        this.keywordDensity = keywordDensity;
+        this.random = new Random(seed);
+        this.keywords = new ArrayList<>(FeatureVocabulary.TECH_TERMS);
+        keywords.addAll(FeatureVocabulary.SOFT_TERMS);
+        keywords.addAll(FeatureVocabulary.JOB_TERMS);
+        keywords.addAll(FeatureVocabulary.SKILL_TERMS);
+    }
+
+    /**
+     * Text of the n-th resume; the index is embedded so every document hashes differently
+     */
+    public synchronized String text(int index) {
+        String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        StringBuilder text = new StringBuilder();
+        text.append(name).append('\n');
+        text.append(name.toLowerCase().replace(' ', '.')).append(index).append("@example.com | ")
+                .append(String.format("555-%03d-%04d", index % 1000, random.nextInt(10000))).append('\n');
+
+        int lines = pages * LINES_PER_PAGE - 2;
+        int section = 0;
+        for (int line = 0; line < lines; line++) {
+            if (line % 12 == 0) {
+                text.append('\n').append(SECTIONS[section++ % SECTIONS.length]).append('\n');
+                line += 2;
+                continue;
+            }
+            text.append("- ");
+            for (int w = 0; w < WORDS_PER_LINE; w++) {
+                text.append(random.nextDouble() < keywordDensity
+                        ? keywords.get(random.nextInt(keywords.size()))
+                        : FILLER[random.nextInt(FILLER.length)]).append(' ');
+            }
+            text.append("(#").append(index).append('.').append(line).append(")\n");
+        }
+        return text.toString();
+    }
+
+    /**
+     * Render the n-th resume to a PDF file
+     */
+    public void writePdf(int index, Path target) throws IOException {
+        ResumeCorpus.writePdf(text(index), target);
+    }
+}
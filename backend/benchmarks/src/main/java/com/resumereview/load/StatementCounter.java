@@ -0,0 +1,83 @@
+package com.resumereview.load;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Wraps the application's DataSource to count the statements actually sent to
+ * the database, whether they come from Hibernate or JdbcTemplate. A JDBC batch
+ * counts as one round trip; its rows are counted separately.
+ */
+public class StatementCounter implements BeanPostProcessor {
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder batchRows = new LongAdder();
+    private final LongAdder connections = new LongAdder();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return bean instanceof DataSource dataSource ? proxy(DataSource.class, dataSource) : bean;
+    }
+
+    public long getStatements() {
+        return statements.sum();
+    }
+
+    public long getBatchRows() {
+        return batchRows.sum();
+    }
+
+    public long getConnections() {
+        return connections.sum();
+    }
+
+    public void reset() {
+        statements.reset();
+        batchRows.reset();
+        connections.reset();
+    }
+
+    private Object proxy(Class<?> type, Object target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+
+            if (type == DataSource.class && result instanceof Connection connection) {
+                connections.increment();
+                return proxy(Connection.class, connection);
+            }
+            if (type == Connection.class && result instanceof Statement statement) {
+                return proxy(statementType(statement), statement);
+            }
+            if (Statement.class.isAssignableFrom(type)) {
+                if (method.getName().equals("addBatch")) {
+                    batchRows.increment();
+                } else if (method.getName().startsWith("execute")) {
+                    statements.increment();
+                }
+            }
+            return result;
+        };
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Class<?> statementType(Statement statement) {
+        if (statement instanceof CallableStatement) {
+            return CallableStatement.class;
+        }
+        return statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+    }
+}
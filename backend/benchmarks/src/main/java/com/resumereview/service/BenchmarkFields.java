@@ -0,0 +1,23 @@
+package com.resumereview.service;
+
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+
+/**
+ * Fills the injected fields of services that benchmarks create without a Spring context
+ */
+final class BenchmarkFields {
+
+    private BenchmarkFields() {
+    }
+
+    static void set(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        if (field == null) {
+            throw new IllegalArgumentException(target.getClass().getSimpleName() + " has no field " + name);
+        }
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
@@ -0,0 +1,83 @@
+package com.resumereview.service;
+
+import com.resumereview.model.JobPosting;
+import com.resumereview.model.ResumeFeatures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ranking a resume against a synthetic job catalog, the step that replaced the
+ * per-posting calculateMatchScore loop
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JobMatchingBenchmark {
+
+    private static final String[] TITLES = {"Backend Engineer", "Data Engineer", "Frontend Developer",
+            "DevOps Engineer", "Machine Learning Engineer", "Full Stack Developer", "Site Reliability Engineer"};
+
+    @Param({"small", "median", "pathological"})
+    public String resume;
+
+    @Param({"1000", "20000"})
+    public int catalogSize;
+
+    private final JobMatchingService jobMatchingService = new JobMatchingService();
+    private ResumeFeatures features;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<String> skills = new ArrayList<>(FeatureVocabulary.SKILL_TERMS);
+        skills.addAll(FeatureVocabulary.TECH_TERMS);
+
+        JobIndex.Builder builder = new JobIndex.Builder();
+        for (int i = 0; i < catalogSize; i++) {
+            JobPosting posting = new JobPosting();
+            String title = TITLES[random.nextInt(TITLES.length)];
+            posting.setJobTitle(title);
+            posting.setCompany("Company " + i);
+            StringBuilder required = new StringBuilder();
+            for (int s = 0, count = 3 + random.nextInt(6); s < count; s++) {
+                required.append(s == 0 ? "" : ", ").append(skills.get(random.nextInt(skills.size())));
+            }
+            posting.setRequiredSkills(required.toString());
+            posting.setDescription("We are looking for a talented " + title + " to join our team. "
+                    + "You will work on challenging projects using modern technologies and collaborate "
+                    + "with a team of experienced professionals.");
+            JobMatchingService.prepare(posting);
+            builder.add(i + 1, posting.getTermFrequencies(), posting.getTokenCount());
+        }
+
+        BenchmarkFields.set(jobMatchingService, "index", builder.build());
+        features = ResumeFeatureService.computeFeatures(ResumeCorpus.load(resume));
+    }
+
+    @Benchmark
+    public double[] topMatches() {
+        List<JobIndex.Hit> hits = jobMatchingService.topMatches(features, 10);
+        double[] scores = new double[hits.size()];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = JobMatchingService.toMatchScore(hits.get(i).getScore());
+        }
+        return scores;
+    }
+}
@@ -0,0 +1,64 @@
+package com.resumereview.service;
+
+import com.resumereview.dto.JobSuggestionDTO;
+import com.resumereview.model.JobSuggestion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping for suggestion lists of typical and large sizes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JobSuggestionDtoBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private final JobSuggestionService jobSuggestionService = new JobSuggestionService();
+    private List<JobSuggestion> suggestions;
+
+    @Setup
+    public void setUp() {
+        suggestions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            JobSuggestion suggestion = new JobSuggestion();
+            suggestion.setId((long) i);
+            suggestion.setJobPostingId((long) i);
+            suggestion.setJobTitle("Backend Engineer " + i);
+            suggestion.setCompany("Company " + i);
+            suggestion.setDescription("We are looking for a talented Backend Engineer to join our team.");
+            suggestion.setMatchScore(50.0 + i % 50);
+            suggestion.setLocation("Remote / Hybrid");
+            suggestion.setEmploymentType("Full-time");
+            suggestion.setRequiredSkills("Java, Spring Boot, SQL, Docker");
+            suggestion.setJobUrl("https://example.com/jobs/" + i);
+            suggestion.setSuggestedAt(LocalDateTime.now());
+            suggestion.setStatus("ACTIVE");
+            suggestions.add(suggestion);
+        }
+    }
+
+    @Benchmark
+    public List<JobSuggestionDTO> convertListToDTO() {
+        return jobSuggestionService.convertListToDTO(suggestions);
+    }
+}
@@ -0,0 +1,62 @@
+package com.resumereview.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded PDF text extraction over the corpus rendered to PDF (the
+ * pathological resume spans several pages)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PdfExtractionBenchmark {
+
+    @Param({"small", "median", "pathological"})
+    public String resume;
+
+    private final PdfTextExtractor pdfTextExtractor = new PdfTextExtractor();
+    private Path pdf;
+
+    @Setup
+    public void setUp() throws IOException {
+        BenchmarkFields.set(pdfTextExtractor, "maxMainMemory", 16L * 1024 * 1024);
+        BenchmarkFields.set(pdfTextExtractor, "scratchDirectory", "");
+        BenchmarkFields.set(pdfTextExtractor, "maxPages", 50);
+        BenchmarkFields.set(pdfTextExtractor, "timeout", Duration.ofSeconds(15));
+
+        pdf = Files.createTempFile("benchmark-" + resume, ".pdf");
+        ResumeCorpus.writePdf(ResumeCorpus.load(resume), pdf);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(pdf);
+    }
+
+    @Benchmark
+    public TextExtraction extract() throws IOException {
+        File file = pdf.toFile();
+        return pdfTextExtractor.extract(file);
+    }
+}
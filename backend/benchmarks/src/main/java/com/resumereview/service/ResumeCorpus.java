@@ -0,0 +1,111 @@
+package com.resumereview.service;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Synthetic resumes checked in under src/main/resources/corpus: "small" (a
+ * one-screen junior resume), "median" (a typical two-page senior resume) and
+ * "pathological" (keyword soup, near-miss terms, unbroken tokens, non-Latin
+ * scripts and malformed contact details)
+ */
+public final class ResumeCorpus {
+
+    public static final String[] NAMES = {"small", "median", "pathological"};
+
+    private static final int LINE_WIDTH = 95;
+    private static final int LINES_PER_PAGE = 60;
+
+    private ResumeCorpus() {
+    }
+
+    /**
+     * Text of one corpus resume
+     */
+    public static String load(String name) {
+        try (InputStream in = ResumeCorpus.class.getResourceAsStream("/corpus/" + name + ".txt")) {
+            if (in == null) {
+                throw new IllegalArgumentException("Unknown corpus resume: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Render text as a PDF with wrapped lines; characters Helvetica cannot encode become '?'
+     */
+    public static void writePdf(String text, Path target) throws IOException {
+        PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+        List<String> lines = wrap(encodable(text, font));
+
+        try (PDDocument document = new PDDocument()) {
+            for (int start = 0; start < lines.size(); start += LINES_PER_PAGE) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(font, 9);
+                    content.newLineAtOffset(40, 750);
+                    for (String line : lines.subList(start, Math.min(start + LINES_PER_PAGE, lines.size()))) {
+                        content.showText(line);
+                        content.newLineAtOffset(0, -12);
+                    }
+                    content.endText();
+                }
+            }
+            document.save(target.toFile());
+        }
+    }
+
+    private static String encodable(String text, PDType1Font font) {
+        Map<Integer, Boolean> supported = new HashMap<>();
+        StringBuilder out = new StringBuilder(text.length());
+        text.codePoints().forEach(codePoint -> {
+            if (codePoint == '\n') {
+                out.append('\n');
+            } else if (supported.computeIfAbsent(codePoint, c -> canEncode(font, c))) {
+                out.appendCodePoint(codePoint);
+            } else {
+                out.append('?');
+            }
+        });
+        return out.toString();
+    }
+
+    private static boolean canEncode(PDType1Font font, int codePoint) {
+        try {
+            font.encode(new String(Character.toChars(codePoint)));
+            return true;
+        } catch (IllegalArgumentException | IOException e) {
+            return false;
+        }
+    }
+
+    private static List<String> wrap(String text) {
+        List<String> lines = new ArrayList<>();
+        for (String line : text.split("\n", -1)) {
+            for (int i = 0; i < line.length(); i += LINE_WIDTH) {
+                lines.add(line.substring(i, Math.min(i + LINE_WIDTH, line.length())));
+            }
+            if (line.isEmpty()) {
+                lines.add("");
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,70 @@
+package com.resumereview.service;
+
+import com.resumereview.model.ResumeFeatures;
+import com.resumereview.model.ReviewScore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feature extraction and the review scoring steps that run on every score request
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReviewScoringBenchmark {
+
+    @Param({"small", "median", "pathological"})
+    public String resume;
+
+    private final ReviewScoreService reviewScoreService = new ReviewScoreService();
+    private String text;
+    private ResumeFeatures features;
+
+    @Setup
+    public void setUp() {
+        // scoreFeatures times each function, as in production
+        BenchmarkFields.set(reviewScoreService, "resumeMetrics", new ResumeMetrics(new SimpleMeterRegistry()));
+        text = ResumeCorpus.load(resume);
+        features = ResumeFeatureService.computeFeatures(text);
+    }
+
+    @Benchmark
+    public ResumeFeatures computeFeatures() {
+        return ResumeFeatureService.computeFeatures(text);
+    }
+
+    @Benchmark
+    public double calculateContentScore() {
+        return reviewScoreService.calculateContentScore(features);
+    }
+
+    @Benchmark
+    public double calculateKeywordScore() {
+        return reviewScoreService.calculateKeywordScore(features);
+    }
+
+    @Benchmark
+    public String generateSuggestions() {
+        return reviewScoreService.generateSuggestions(features);
+    }
+
+    @Benchmark
+    public ReviewScore scoreFeatures() {
+        return reviewScoreService.scoreFeatures(resume + ".pdf", features);
+    }
+}
@@ -0,0 +1,34 @@
+package com.resumereview;
+
+import com.resumereview.service.JobCatalogIngestionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.file.Paths;
+
+/**
+ * Loads a job feed at startup when app.job-catalog.startup-feed is set
+ * (e.g. --app.job-catalog.startup-feed=/data/jobs.jsonl)
+ */
+@Component
+@Slf4j
+public class JobCatalogStartupLoader implements ApplicationRunner {
+
+    @Autowired
+    private JobCatalogIngestionService jobCatalogIngestionService;
+
+    @Value("${app.job-catalog.startup-feed:}")
+    private String startupFeed;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (StringUtils.hasText(startupFeed)) {
+            jobCatalogIngestionService.ingest(Paths.get(startupFeed));
+        }
+    }
+}
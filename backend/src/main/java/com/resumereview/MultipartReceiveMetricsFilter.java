@@ -0,0 +1,48 @@
+package com.resumereview;
+
+import com.resumereview.service.ResumeMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Times how long the container takes to receive and parse a multipart upload.
+ * Parsing normally happens inside the dispatcher before the controller runs;
+ * triggering it here measures it without changing the outcome, since the
+ * container caches the parts (or the parse failure) for the dispatcher.
+ */
+@Component
+public class MultipartReceiveMetricsFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private ResumeMetrics resumeMetrics;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return !"POST".equals(request.getMethod())
+                || contentType == null
+                || !contentType.toLowerCase(Locale.ROOT).startsWith(MediaType.MULTIPART_FORM_DATA_VALUE);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long startNanos = System.nanoTime();
+        try {
+            request.getParts();
+            resumeMetrics.recordMultipartReceive(System.nanoTime() - startNanos);
+        } catch (IOException | ServletException | IllegalStateException e) {
+            // Rejected uploads (e.g. over the size limit) fail again, and are reported, in the dispatcher
+        }
+        chain.doFilter(request, response);
+    }
+}
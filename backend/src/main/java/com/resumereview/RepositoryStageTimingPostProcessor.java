@@ -0,0 +1,27 @@
+package com.resumereview;
+
+import com.resumereview.service.StageTimings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adds every repository call, and the commit of the transaction it runs in,
+ * to the db stage of the current request's {@link StageTimings}
+ */
+@Component
+public class RepositoryStageTimingPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactory) {
+            repositoryFactory.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(invocation -> {
+                StageTimings.record(StageTimings.DB, invocation.getDuration(TimeUnit.NANOSECONDS));
+                StageTimings.recordCommit();
+            }));
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,72 @@
+package com.resumereview;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ResumeProcessingConfig {
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${app.resume.processing.core-pool-size:2}")
+    private int corePoolSize;
+
+    @Value("${app.resume.processing.max-pool-size:4}")
+    private int maxPoolSize;
+
+    @Value("${app.resume.processing.queue-capacity:50}")
+    private int queueCapacity;
+
+    @Value("${app.review-scoring.batch.parallelism:0}")
+    private int scoringParallelism;
+
+    /**
+     * Bounded pool for background extraction and scoring. Tasks beyond the queue
+     * capacity are rejected rather than queued, so callers can shed load.
+     * With spring.threads.virtual.enabled on Java 21+ the workers are virtual
+     * threads; the pool and queue bounds still apply.
+     */
+    @Bean(name = "resumeProcessingExecutor")
+    public ThreadPoolTaskExecutor resumeProcessingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("resume-processing-");
+        if (Threading.VIRTUAL.isActive(environment)) {
+            executor.setThreadFactory(new VirtualThreadTaskExecutor("resume-processing-").getVirtualThreadFactory());
+        }
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Pool for batch review scoring, one thread per core unless configured.
+     * A full queue makes the submitting request thread run the chunk itself.
+     * Stays on platform threads in virtual mode: the work is CPU-bound and
+     * already sized to the cores.
+     */
+    @Bean(name = "reviewScoringExecutor")
+    public ThreadPoolTaskExecutor reviewScoringExecutor() {
+        int threads = scoringParallelism > 0 ? scoringParallelism : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(threads * 4);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("review-scoring-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,50 @@
+package com.resumereview;
+
+import com.resumereview.service.StageTimings;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+/**
+ * Collects {@link StageTimings} for the expensive endpoints and returns them in
+ * a {@code Server-Timing} header. The response body is buffered so the header,
+ * which must precede the body, can still include serialization time.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private static final Pattern TIMED_PATHS = Pattern.compile(
+            "/resumes/(upload(/stream)?|analyze)|/review-scores/generate/\\d+|/job-suggestions/generate/\\d+");
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || !TIMED_PATHS.matcher(request.getServletPath()).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        StageTimings timings = StageTimings.begin();
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, buffered);
+        } finally {
+            StageTimings.end();
+            timings.serializationFinished();
+            buffered.setHeader(StageTimings.HEADER, timings.toHeader());
+            // Lets browsers on the frontend origin read the entries through the Performance API
+            buffered.setHeader("Timing-Allow-Origin", "*");
+            buffered.copyBodyToResponse();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.resumereview;
+
+import com.resumereview.service.TextCompressionMigrationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Refuses to start while a compressed column still has a text type, then
+ * compresses text rows left over from before the binary column migration when
+ * app.text-compression.migrate-on-startup is true
+ */
+@Component
+public class TextCompressionStartupMigration implements ApplicationRunner {
+
+    @Autowired
+    private TextCompressionMigrationService textCompressionMigrationService;
+
+    @Value("${app.text-compression.migrate-on-startup:false}")
+    private boolean migrateOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        textCompressionMigrationService.checkColumnTypes();
+        if (migrateOnStartup) {
+            textCompressionMigrationService.migrate();
+        }
+    }
+}
@@ -1,18 +1,48 @@
 package com.resumereview;
 
+import com.resumereview.dto.KeysetPage;
+import com.resumereview.service.StageTimings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    @Value("${spring.jpa.open-in-view:true}")
+    private boolean openInView;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
                 .allowedOrigins("*")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders(KeysetPage.NEXT_CURSOR_HEADER, StageTimings.HEADER)
                 .maxAge(3600);
     }
+
+    /**
+     * Replaces Spring Boot's open-in-view registration, which covers every path
+     */
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+
+    /**
+     * Keep open-in-view off event streams: it holds the request's entity manager,
+     * and the pooled connection it used, until the stream ends
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (openInView) {
+            registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor())
+                    .excludePathPatterns("/resumes/*/events");
+        }
+    }
 }
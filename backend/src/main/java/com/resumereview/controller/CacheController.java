@@ -0,0 +1,26 @@
+package com.resumereview.controller;
+
+import com.resumereview.dto.CacheStatsDTO;
+import com.resumereview.service.ResumeResultCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/cache")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class CacheController {
+
+    @Autowired
+    private ResumeResultCache resumeResultCache;
+
+    /**
+     * Hit, miss and eviction counters of the result caches
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheStatsDTO>> getStats() {
+        return ResponseEntity.ok(resumeResultCache.getStats());
+    }
+}
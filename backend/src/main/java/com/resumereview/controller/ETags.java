@@ -0,0 +1,27 @@
+package com.resumereview.controller;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Strong ETags built from version values (ids, timestamps, request parameters)
+ * rather than from the serialised body
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(Object... parts) {
+        // 64-bit FNV-1a over the parts, separated so ("ab", "c") differs from ("a", "bc")
+        long hash = 0xcbf29ce484222325L;
+        for (Object part : parts) {
+            for (byte b : String.valueOf(part).getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b & 0xff;
+                hash *= 0x100000001b3L;
+            }
+            hash ^= 0x1f;
+            hash *= 0x100000001b3L;
+        }
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+}
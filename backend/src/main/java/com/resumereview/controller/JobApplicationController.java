@@ -2,19 +2,22 @@ package com.resumereview.controller;
 
 import com.resumereview.model.JobApplication;
 import com.resumereview.dto.JobApplicationDTO;
+import com.resumereview.dto.KeysetPage;
 import com.resumereview.service.JobApplicationService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
 @RequestMapping("/job-applications")
 @Slf4j
-@CrossOrigin(origins = "*", maxAge = 3600)
+@CrossOrigin(origins = "*", maxAge = 3600, exposedHeaders = KeysetPage.NEXT_CURSOR_HEADER)
 public class JobApplicationController {
 
     @Autowired
@@ -38,16 +41,19 @@ public class JobApplicationController {
     }
 
     /**
-     * Get applications for a resume
+     * Get applications for a resume, newest first, one keyset page at a time
      */
     @GetMapping("/resume/{resumeId}")
-    public ResponseEntity<List<JobApplicationDTO>> getApplicationsForResume(@PathVariable Long resumeId) {
+    public ResponseEntity<List<JobApplicationDTO>> getApplicationsForResume(
+            @PathVariable Long resumeId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime appliedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime appliedTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = KeysetPage.DEFAULT_LIMIT) int limit) {
         log.info("Fetching job applications for resume ID: {}", resumeId);
-        
-        List<JobApplication> applications = jobApplicationService.getApplicationsForResume(resumeId);
-        List<JobApplicationDTO> dtos = jobApplicationService.convertListToDTO(applications);
-        
-        return ResponseEntity.ok(dtos);
+        return KeysetPageResponses.ok(jobApplicationService.getApplicationPage(
+                resumeId, status, appliedFrom, appliedTo, cursor, limit));
     }
 
     /**
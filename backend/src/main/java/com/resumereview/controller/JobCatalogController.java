@@ -0,0 +1,29 @@
+package com.resumereview.controller;
+
+import com.resumereview.dto.JobCatalogIngestResult;
+import com.resumereview.service.JobCatalogIngestionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/job-catalog")
+@Slf4j
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class JobCatalogController {
+
+    @Autowired
+    private JobCatalogIngestionService jobCatalogIngestionService;
+
+    /**
+     * Ingest a CSV or JSONL job feed from the import directory
+     */
+    @PostMapping("/ingest")
+    public ResponseEntity<JobCatalogIngestResult> ingest(@RequestParam String file) throws IOException {
+        log.info("Ingesting job feed: {}", file);
+        return ResponseEntity.ok(jobCatalogIngestionService.ingestFromImportDirectory(file));
+    }
+}
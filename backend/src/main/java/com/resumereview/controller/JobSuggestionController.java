@@ -2,19 +2,25 @@ package com.resumereview.controller;
 
 import com.resumereview.model.JobSuggestion;
 import com.resumereview.dto.JobSuggestionDTO;
+import com.resumereview.dto.KeysetPage;
+import com.resumereview.repository.SuggestionsVersion;
 import com.resumereview.service.JobSuggestionService;
+import com.resumereview.service.StageTimings;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/job-suggestions")
 @Slf4j
-@CrossOrigin(origins = "*", maxAge = 3600)
+@CrossOrigin(origins = "*", maxAge = 3600, exposedHeaders = {KeysetPage.NEXT_CURSOR_HEADER, StageTimings.HEADER})
 public class JobSuggestionController {
 
     @Autowired
@@ -24,38 +30,56 @@ public class JobSuggestionController {
      * Generate job suggestions for a resume
      */
     @PostMapping("/generate/{resumeId}")
-    public ResponseEntity<List<JobSuggestionDTO>> generateJobSuggestions(@PathVariable Long resumeId) {
+    public ResponseEntity<List<JobSuggestionDTO>> generateJobSuggestions(
+            @PathVariable Long resumeId,
+            @RequestParam(required = false) Integer limit) {
         log.info("Generating job suggestions for resume ID: {}", resumeId);
         
-        List<JobSuggestion> suggestions = jobSuggestionService.generateJobSuggestions(resumeId);
+        List<JobSuggestion> suggestions = limit == null
+                ? jobSuggestionService.generateJobSuggestions(resumeId)
+                : jobSuggestionService.generateJobSuggestions(resumeId, limit);
         List<JobSuggestionDTO> dtos = jobSuggestionService.convertListToDTO(suggestions);
         
         return ResponseEntity.status(HttpStatus.CREATED).body(dtos);
     }
 
     /**
-     * Get job suggestions for a resume
+     * Get job suggestions for a resume, best match first, one keyset page at a time
      */
     @GetMapping("/resume/{resumeId}")
-    public ResponseEntity<List<JobSuggestionDTO>> getJobSuggestions(@PathVariable Long resumeId) {
+    public ResponseEntity<List<JobSuggestionDTO>> getJobSuggestions(
+            @PathVariable Long resumeId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = KeysetPage.DEFAULT_LIMIT) int limit,
+            WebRequest request) {
         log.info("Fetching job suggestions for resume ID: {}", resumeId);
-        
-        List<JobSuggestion> suggestions = jobSuggestionService.getJobSuggestions(resumeId);
-        List<JobSuggestionDTO> dtos = jobSuggestionService.convertListToDTO(suggestions);
-        
-        return ResponseEntity.ok(dtos);
+
+        // Empty lists skip the check so a deleted resume still yields 404
+        SuggestionsVersion version = jobSuggestionService.getJobSuggestionsVersion(resumeId, status);
+        String eTag = ETags.of("suggestions", resumeId, status, cursor, limit,
+                version.getCount(), version.getLastSuggestedAt());
+        if (version.getCount() > 0 && request.checkNotModified(eTag)) {
+            return null;
+        }
+        return KeysetPageResponses.ok(jobSuggestionService.getJobSuggestionPage(resumeId, status, cursor, limit), eTag);
     }
 
     /**
      * Get single job suggestion
      */
     @GetMapping("/{id}")
-    public ResponseEntity<JobSuggestionDTO> getJobSuggestion(@PathVariable Long id) {
+    public ResponseEntity<JobSuggestionDTO> getJobSuggestion(@PathVariable Long id, WebRequest request) {
         log.info("Fetching job suggestion with ID: {}", id);
-        
+
+        Optional<LocalDateTime> version = jobSuggestionService.getJobSuggestionVersion(id);
+        String eTag = ETags.of("suggestion", id, version.orElse(null));
+        if (version.isPresent() && request.checkNotModified(eTag)) {
+            return null;
+        }
         JobSuggestion suggestion = jobSuggestionService.getJobSuggestionById(id);
         JobSuggestionDTO dto = jobSuggestionService.convertToDTO(suggestion);
-        
-        return ResponseEntity.ok(dto);
+
+        return ResponseEntity.ok().eTag(eTag).body(dto);
     }
 }
@@ -0,0 +1,30 @@
+package com.resumereview.controller;
+
+import com.resumereview.dto.KeysetPage;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+/**
+ * Writes a keyset page as a plain JSON array, with the cursor for the next page in a header
+ */
+final class KeysetPageResponses {
+
+    private KeysetPageResponses() {
+    }
+
+    static <T> ResponseEntity<List<T>> ok(KeysetPage<T> page) {
+        return ok(page, null);
+    }
+
+    static <T> ResponseEntity<List<T>> ok(KeysetPage<T> page, String eTag) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (eTag != null) {
+            response.eTag(eTag);
+        }
+        if (page.getNextCursor() != null) {
+            response.header(KeysetPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+}
@@ -1,34 +1,74 @@
 package com.resumereview.controller;
 
 import com.resumereview.model.Resume;
+import com.resumereview.dto.KeysetPage;
+import com.resumereview.dto.ResumeAnalysisDTO;
+import com.resumereview.dto.ResumeListItem;
 import com.resumereview.dto.ResumeUploadResponse;
+import com.resumereview.repository.ResumeSummary;
+import com.resumereview.service.ResumeAnalysisService;
+import com.resumereview.service.ResumeEventStreamService;
+import com.resumereview.service.ResumeProcessingService;
 import com.resumereview.service.ResumeService;
+import com.resumereview.service.StageTimings;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
 @RequestMapping("/resumes")
 @Slf4j
-@CrossOrigin(origins = "*", maxAge = 3600)
+@CrossOrigin(origins = "*", maxAge = 3600, exposedHeaders = {KeysetPage.NEXT_CURSOR_HEADER, StageTimings.HEADER})
 public class ResumeController {
 
     @Autowired
     private ResumeService resumeService;
 
+    @Autowired
+    private ResumeProcessingService resumeProcessingService;
+
+    @Autowired
+    private ResumeAnalysisService resumeAnalysisService;
+
+    @Autowired
+    private ResumeEventStreamService resumeEventStreamService;
+
     /**
-     * Upload a resume
+     * Upload a resume. With async=true the file is stored and 202 is returned
+     * immediately while extraction runs in the background.
      */
     @PostMapping("/upload")
-    public ResponseEntity<ResumeUploadResponse> uploadResume(@RequestParam("file") MultipartFile file) {
+    public ResponseEntity<ResumeUploadResponse> uploadResume(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "false") boolean async) {
         try {
-            log.info("Received resume upload request for file: {}", file.getOriginalFilename());
+            log.info("Received resume upload request for file: {} (async: {})", file.getOriginalFilename(), async);
+            
+            if (async) {
+                Resume resume = resumeProcessingService.acceptUpload(file);
+                ResumeUploadResponse response = new ResumeUploadResponse(
+                        resume.getId(),
+                        resume.getFileName(),
+                        resume.getFileSize(),
+                        "Resume accepted for processing",
+                        true,
+                        resume.getContentHash()
+                );
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+            }
             
             Resume resume = resumeService.uploadResume(file);
             
@@ -37,45 +77,130 @@ public class ResumeController {
                     resume.getFileName(),
                     resume.getFileSize(),
                     "Resume uploaded successfully",
-                    true
+                    true,
+                    resume.getContentHash()
             );
             
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (IOException e) {
             log.error("Error uploading resume: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new ResumeUploadResponse(null, null, null, "Error uploading file", false));
+                    .body(new ResumeUploadResponse(null, null, null, "Error uploading file", false, null));
         }
     }
 
+    /**
+     * Upload a resume sent as the raw request body, bypassing multipart buffering
+     */
+    @PostMapping(value = "/upload/stream", consumes = {
+            MediaType.APPLICATION_PDF_VALUE,
+            MediaType.APPLICATION_OCTET_STREAM_VALUE,
+            "application/msword",
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document"
+    })
+    public ResponseEntity<ResumeUploadResponse> uploadResumeStream(
+            HttpServletRequest request,
+            @RequestParam String fileName,
+            @RequestParam(defaultValue = "false") boolean async) {
+        try (InputStream in = request.getInputStream()) {
+            log.info("Received streaming resume upload for file: {} (async: {})", fileName, async);
+
+            Resume resume = async
+                    ? resumeProcessingService.acceptUpload(in, fileName)
+                    : resumeService.uploadResume(in, fileName);
+
+            ResumeUploadResponse response = new ResumeUploadResponse(
+                    resume.getId(),
+                    resume.getFileName(),
+                    resume.getFileSize(),
+                    async ? "Resume accepted for processing" : "Resume uploaded successfully",
+                    true,
+                    resume.getContentHash()
+            );
+
+            return ResponseEntity.status(async ? HttpStatus.ACCEPTED : HttpStatus.CREATED).body(response);
+        } catch (IOException e) {
+            log.error("Error uploading resume: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ResumeUploadResponse(null, null, null, "Error uploading file", false, null));
+        }
+    }
+
+    /**
+     * Upload a resume and return its review score and job suggestions in one round trip
+     */
+    @PostMapping("/analyze")
+    public ResponseEntity<ResumeAnalysisDTO> analyzeResume(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) Integer limit) throws IOException {
+        log.info("Received resume analysis request for file: {}", file.getOriginalFilename());
+        return ResponseEntity.status(HttpStatus.CREATED).body(resumeAnalysisService.analyze(file, limit));
+    }
+
     /**
      * Get resume by ID
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Resume> getResume(@PathVariable Long id) {
+    public ResponseEntity<Resume> getResume(@PathVariable Long id, WebRequest request) {
         log.info("Fetching resume with ID: {}", id);
+        String eTag = ETags.of("resume", id, resumeService.getResumeSummary(id).getUpdatedAt());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         Resume resume = resumeService.getResumeById(id);
-        return ResponseEntity.ok(resume);
+        return ResponseEntity.ok().eTag(eTag).body(resume);
     }
 
     /**
-     * Get all resumes
+     * List resumes newest first, one keyset page at a time
      */
     @GetMapping
-    public ResponseEntity<List<Resume>> getAllResumes() {
-        log.info("Fetching all resumes");
-        List<Resume> resumes = resumeService.getAllResumes();
-        return ResponseEntity.ok(resumes);
+    public ResponseEntity<List<ResumeListItem>> getAllResumes(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime uploadedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime uploadedTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = KeysetPage.DEFAULT_LIMIT) int limit) {
+        log.info("Fetching resumes page (cursor: {})", cursor);
+        return KeysetPageResponses.ok(resumeService.getResumePage(status, uploadedFrom, uploadedTo, cursor, limit));
     }
 
     /**
      * Get resume status
      */
     @GetMapping("/{id}/status")
-    public ResponseEntity<String> getResumeStatus(@PathVariable Long id) {
+    public ResponseEntity<String> getResumeStatus(@PathVariable Long id, WebRequest request) {
         log.info("Fetching status for resume ID: {}", id);
-        String status = resumeService.getResumeStatus(id);
-        return ResponseEntity.ok(status);
+        ResumeSummary summary = resumeService.getResumeSummary(id);
+        String eTag = ETags.of("status", id, summary.getUpdatedAt());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(summary.getStatus());
+    }
+
+    /**
+     * Stream status transitions and processing progress of a resume as Server-Sent Events
+     */
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamResumeEvents(@PathVariable Long id) {
+        log.info("Opening event stream for resume ID: {}", id);
+        return resumeEventStreamService.subscribe(id);
+    }
+
+    /**
+     * Get the extracted text of a resume
+     */
+    @GetMapping(value = "/{id}/text", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<String> getExtractedText(@PathVariable Long id, WebRequest request) {
+        log.info("Fetching extracted text for resume ID: {}", id);
+        // The text is fixed by the file's content hash
+        ResumeSummary summary = resumeService.getResumeSummary(id);
+        String eTag = ETags.of("text", summary.getContentHash());
+        if (summary.getContentHash() != null && request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(resumeService.getExtractedText(summary));
     }
 
     /**
@@ -1,23 +1,31 @@
 package com.resumereview.controller;
 
 import com.resumereview.model.ReviewScore;
+import com.resumereview.dto.ReviewScoreBatchRequest;
+import com.resumereview.dto.ReviewScoreBatchResult;
 import com.resumereview.dto.ReviewScoreDTO;
+import com.resumereview.service.ReviewScoreBatchService;
 import com.resumereview.service.ReviewScoreService;
+import com.resumereview.service.StageTimings;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/review-scores")
 @Slf4j
-@CrossOrigin(origins = "*", maxAge = 3600)
+@CrossOrigin(origins = "*", maxAge = 3600, exposedHeaders = StageTimings.HEADER)
 public class ReviewScoreController {
 
     @Autowired
     private ReviewScoreService reviewScoreService;
 
+    @Autowired
+    private ReviewScoreBatchService reviewScoreBatchService;
+
     /**
      * Generate review score for a resume
      */
@@ -31,17 +39,29 @@ public class ReviewScoreController {
         return ResponseEntity.status(HttpStatus.CREATED).body(dto);
     }
 
+    /**
+     * Score many resumes in one request, selected by ids or by status/upload range
+     */
+    @PostMapping("/generate/batch")
+    public ResponseEntity<ReviewScoreBatchResult> generateReviewScores(@RequestBody ReviewScoreBatchRequest request) {
+        log.info("Generating review scores in batch");
+        return ResponseEntity.ok(reviewScoreBatchService.generateReviewScores(request));
+    }
+
     /**
      * Get review score for a resume
      */
     @GetMapping("/resume/{resumeId}")
-    public ResponseEntity<ReviewScoreDTO> getReviewScore(@PathVariable Long resumeId) {
+    public ResponseEntity<ReviewScoreDTO> getReviewScore(@PathVariable Long resumeId, WebRequest request) {
         log.info("Fetching review score for resume ID: {}", resumeId);
-        
-        ReviewScore reviewScore = reviewScoreService.getReviewScore(resumeId);
-        ReviewScoreDTO dto = reviewScoreService.convertToDTO(reviewScore);
-        
-        return ResponseEntity.ok(dto);
+
+        // The version is cached with the score, so a cache hit answers without a query
+        ReviewScoreDTO dto = reviewScoreService.getReviewScoreDTO(resumeId);
+        String eTag = ETags.of("score", resumeId, dto.getUpdatedAt());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(dto);
     }
 
     /**
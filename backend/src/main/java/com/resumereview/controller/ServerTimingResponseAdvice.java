@@ -0,0 +1,41 @@
+package com.resumereview.controller;
+
+import com.resumereview.dto.TimedResponse;
+import com.resumereview.service.StageTimings;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Starts the serialization stage of timed requests, and with {@code ?debugTiming=true}
+ * wraps the body together with the stage breakdown measured up to that point
+ */
+@RestControllerAdvice
+public class ServerTimingResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        StageTimings timings = StageTimings.current();
+        if (timings == null) {
+            return body;
+        }
+        timings.serializationStarted();
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && Boolean.parseBoolean(servletRequest.getServletRequest().getParameter("debugTiming"))) {
+            return new TimedResponse(body, timings.toMillis());
+        }
+        return body;
+    }
+}
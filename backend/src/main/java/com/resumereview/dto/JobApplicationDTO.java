@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,4 +17,5 @@ public class JobApplicationDTO {
     private String status;
     private String applicationNotes;
     private String responseStatus;
+    private LocalDateTime appliedAt;
 }
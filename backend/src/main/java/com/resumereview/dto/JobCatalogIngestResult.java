@@ -0,0 +1,18 @@
+package com.resumereview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobCatalogIngestResult {
+    private String feed;
+    private long recordsRead;
+    private long inserted;
+    private long updated;
+    private long unchanged;
+    private long malformed;
+    private long durationMs;
+}
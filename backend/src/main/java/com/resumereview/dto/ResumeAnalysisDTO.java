@@ -0,0 +1,25 @@
+package com.resumereview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of POST /resumes/analyze: the stored resume, its review score and its job suggestions
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeAnalysisDTO {
+    private Long resumeId;
+    private String fileName;
+    private Long fileSize;
+    private String contentHash;
+    private String status;
+    /** Text was cut short by the page, size or time limit, so the score covers only the start */
+    private Boolean textTruncated;
+    private ReviewScoreDTO reviewScore;
+    private List<JobSuggestionDTO> jobSuggestions;
+}
@@ -0,0 +1,31 @@
+package com.resumereview.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One progress event of GET /resumes/{id}/events; only the fields of its kind are set
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResumeEventDTO {
+    public static final String STATUS = "status";
+    public static final String EXTRACTION = "extraction";
+    public static final String SCORE = "score";
+    public static final String SUGGESTIONS = "suggestions";
+
+    private Long resumeId;
+    private String event;
+    private String status;
+    private Integer pagesProcessed;
+    private Integer pagesToProcess;
+    private Double overallScore;
+    private Integer suggestionCount;
+    private LocalDateTime timestamp;
+}
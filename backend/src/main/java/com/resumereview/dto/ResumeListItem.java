@@ -0,0 +1,24 @@
+package com.resumereview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Resume row as listed by GET /resumes, without the extracted text or associations
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeListItem {
+    private Long id;
+    private String fileName;
+    private Long fileSize;
+    private String contentType;
+    private String contentHash;
+    private String status;
+    private LocalDateTime uploadedAt;
+    private LocalDateTime updatedAt;
+}
@@ -13,4 +13,5 @@ public class ResumeUploadResponse {
     private Long fileSize;
     private String message;
     private Boolean success;
+    private String contentHash;
 }
@@ -0,0 +1,15 @@
+package com.resumereview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewScoreBatchItem {
+    private Long resumeId;
+    private boolean success;
+    private Double overallScore;
+    private String error;
+}
@@ -0,0 +1,21 @@
+package com.resumereview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Selects the resumes to score: explicit ids, or a status and/or uploadedAt range
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewScoreBatchRequest {
+    private List<Long> resumeIds;
+    private String status;
+    private LocalDateTime uploadedFrom;
+    private LocalDateTime uploadedTo;
+}
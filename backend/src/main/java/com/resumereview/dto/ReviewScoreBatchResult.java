@@ -0,0 +1,18 @@
+package com.resumereview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewScoreBatchResult {
+    private int requested;
+    private int scored;
+    private int failed;
+    private long durationMs;
+    private List<ReviewScoreBatchItem> results;
+}
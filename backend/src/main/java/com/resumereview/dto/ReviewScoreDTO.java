@@ -1,9 +1,12 @@
 package com.resumereview.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,4 +18,8 @@ public class ReviewScoreDTO {
     private Double keywordScore;
     private String feedback;
     private String suggestions;
+
+    /** Last change of the score, cached with it so ETags need no query; not serialised */
+    @JsonIgnore
+    private LocalDateTime updatedAt;
 }
@@ -0,0 +1,18 @@
+package com.resumereview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * A response body with its per-stage timing in milliseconds, returned for {@code ?debugTiming=true}
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimedResponse {
+    private Object data;
+    private Map<String, Double> timing;
+}
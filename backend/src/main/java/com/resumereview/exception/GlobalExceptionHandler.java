@@ -1,6 +1,7 @@
 package com.resumereview.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -45,6 +46,24 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(ProcessingCapacityExceededException.class)
+    public ResponseEntity<ErrorResponse> handleProcessingCapacityExceededException(
+            ProcessingCapacityExceededException ex, WebRequest request) {
+        
+        log.warn("Processing capacity exceeded: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                ex.getMessage(),
+                "SERVICE_BUSY",
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                LocalDateTime.now()
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGlobalException(
             Exception ex, WebRequest request) {
@@ -0,0 +1,19 @@
+package com.resumereview.exception;
+
+public class ProcessingCapacityExceededException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public ProcessingCapacityExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public ProcessingCapacityExceededException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,152 @@
+package com.resumereview.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Stores large text as deflated UTF-8 behind a one-byte format marker.
+ * Compression is primed with a preset dictionary of the boilerplate the
+ * application itself writes (job descriptions, review feedback), so even
+ * short generated paragraphs shrink to a few dozen bytes. Values that do not
+ * start with a known marker are read as plain UTF-8, which keeps rows written
+ * before the column was converted readable until they are rewritten.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    /** Marker for UTF-8 stored as is (too short or incompressible) */
+    static final byte RAW = 0;
+
+    /** Marker for a zlib stream primed with {@link #DICTIONARY_V1}, preceded by the 4-byte UTF-8 length */
+    static final byte DEFLATE_V1 = 1;
+
+    private static final int MIN_COMPRESSED_LENGTH = 64;
+
+    /**
+     * Preset dictionary; deflate prefers the nearest match, so the most frequent phrases come last.
+     * Never edit in place: add a new marker and dictionary so existing rows stay readable.
+     */
+    private static final byte[] DICTIONARY_V1 = ("""
+            Bachelor of Science Master of Science University College Certification Present \
+            Responsibilities Achievements Summary Professional Experience Education Skills Projects \
+            Developed Designed Implemented Managed Led Improved Built Created Collaborated \
+            Java Python JavaScript TypeScript SQL AWS Docker Kubernetes Spring React Node.js Git Agile \
+            ✓ Add a detailed 'Experience' section with your work history.
+            ✓ Include an 'Education' section with degrees and certifications.
+            ✓ Create a 'Skills' section highlighting technical and soft skills.
+            ✓ Consider adding a 'Projects' section showcasing your work.
+            ✓ Make sure your email address is clearly visible.
+            ✓ Expand your resume content for more detailed information.
+            ✓ Ensure proper spelling and grammar throughout.
+            ✓ Use action verbs to describe your achievements.
+            ✓ Quantify your accomplishments with metrics and numbers.
+            • Excellent resume format and structure.
+            • Good resume format with room for improvement.
+            • Resume format needs improvement. Consider using a cleaner layout.
+            • Strong content with comprehensive information.
+            • Decent content coverage. Add more details to key sections.
+            • Content needs expansion. Include all important sections.
+            • Excellent use of industry keywords and technical terms.
+            • Good keyword usage. Consider adding more industry-specific terms.
+            • Add more relevant keywords to improve ATS compatibility.
+            We are looking for a talented Software Engineer to join our team. \
+            You will work on challenging projects using modern technologies and collaborate with a team of experienced professionals.""")
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        return attribute == null ? null : compress(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        return dbData == null ? null : decompress(dbData);
+    }
+
+    /**
+     * Encode text in the current storage format
+     */
+    public static byte[] compress(String text) {
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        if (utf8.length >= MIN_COMPRESSED_LENGTH) {
+            Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+            try {
+                deflater.setDictionary(DICTIONARY_V1);
+                deflater.setInput(utf8);
+                deflater.finish();
+                // Only worth keeping when it beats the raw form
+                byte[] out = new byte[utf8.length];
+                ByteBuffer buffer = ByteBuffer.wrap(out);
+                buffer.put(DEFLATE_V1).putInt(utf8.length);
+                while (!deflater.finished() && buffer.hasRemaining()) {
+                    int written = deflater.deflate(out, buffer.position(), buffer.remaining());
+                    buffer.position(buffer.position() + written);
+                }
+                if (deflater.finished()) {
+                    return Arrays.copyOf(out, buffer.position());
+                }
+            } finally {
+                deflater.end();
+            }
+        }
+
+        byte[] raw = new byte[utf8.length + 1];
+        raw[0] = RAW;
+        System.arraycopy(utf8, 0, raw, 1, utf8.length);
+        return raw;
+    }
+
+    /**
+     * Decode a stored value in any supported format, including legacy plain UTF-8
+     */
+    public static String decompress(byte[] data) {
+        if (isLegacy(data)) {
+            return new String(data, StandardCharsets.UTF_8);
+        }
+        if (data[0] == RAW) {
+            return new String(data, 1, data.length - 1, StandardCharsets.UTF_8);
+        }
+
+        int expected = ByteBuffer.wrap(data, 1, 4).getInt();
+        // One spare byte so the end of the stream is always reached with room left
+        byte[] utf8 = new byte[expected + 1];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data, 5, data.length - 5);
+            int length = 0;
+            while (!inflater.finished()) {
+                int read = inflater.inflate(utf8, length, utf8.length - length);
+                if (read == 0 && !inflater.finished()) {
+                    if (!inflater.needsDictionary()) {
+                        // Out of input, out of room, or stuck on a corrupt stream: looping again would spin
+                        throw new IllegalStateException("Compressed text is truncated or corrupt");
+                    }
+                    inflater.setDictionary(DICTIONARY_V1);
+                }
+                length += read;
+            }
+            if (length != expected) {
+                throw new IllegalArgumentException("Compressed text length does not match its header");
+            }
+            return new String(utf8, 0, length, StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Compressed text is corrupt", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Whether the value predates compression, i.e. is plain UTF-8 without a format marker
+     */
+    public static boolean isLegacy(byte[] data) {
+        return data.length == 0 || (data[0] != RAW && data[0] != DEFLATE_V1);
+    }
+}
@@ -0,0 +1,66 @@
+package com.resumereview.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.Length;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Entity
+@Table(name = "job_postings")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPosting {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String externalId;
+
+    @Column(nullable = false)
+    private String jobTitle;
+
+    @Column(nullable = false)
+    private String company;
+
+    @Column(length = Length.LONG32)
+    private String description;
+
+    @Column(length = 500)
+    private String location;
+
+    @Column(length = 50)
+    private String employmentType;
+
+    @Column(length = 1000)
+    private String requiredSkills;
+
+    @Column(length = 500)
+    private String jobUrl;
+
+    /**
+     * Vocabulary term counts over title, skills and description, computed when the posting is saved
+     */
+    @Convert(converter = TermFrequencyConverter.class)
+    @Column(length = 4000)
+    private Map<String, Integer> termFrequencies;
+
+    @Column(nullable = false)
+    private Integer tokenCount;
+
+    /**
+     * Hash of the raw feed record, so re-ingesting an unchanged posting is a no-op
+     */
+    @Column
+    private Long recordHash;
+
+    @Column(nullable = false)
+    private Boolean active;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
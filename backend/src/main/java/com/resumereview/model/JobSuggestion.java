@@ -4,25 +4,34 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.Length;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "job_suggestions")
+@Table(name = "job_suggestions", indexes = {
+        @Index(name = "idx_job_suggestions_resume_status_score", columnList = "resume_id, status, match_score")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class JobSuggestion {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Sequence ids (pre-allocated in blocks) let Hibernate batch the inserts
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_suggestions_seq")
+    @SequenceGenerator(name = "job_suggestions_seq", sequenceName = "job_suggestions_seq", allocationSize = 50)
     private Long id;
 
+    @Column
+    private Long jobPostingId;
+
     @Column(nullable = false)
     private String jobTitle;
 
     @Column(nullable = false)
     private String company;
 
-    @Column(columnDefinition = "LONGTEXT")
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(length = Length.LONG32)
     private String description;
 
     @Column(nullable = false)
@@ -40,7 +49,7 @@ public class JobSuggestion {
     @Column(length = 500)
     private String jobUrl;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "resume_id", nullable = false)
     private Resume resume;
 
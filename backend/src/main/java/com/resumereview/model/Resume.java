@@ -7,7 +7,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "resumes")
+@Table(name = "resumes", indexes = @Index(name = "idx_resumes_content_hash", columnList = "contentHash"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -25,11 +25,11 @@ public class Resume {
     @Column(nullable = false)
     private Long fileSize;
 
-    @Column(columnDefinition = "LONGTEXT")
-    private String extractedText;
+    @Column(length = 64)
+    private String contentHash;
 
-    @OneToOne(mappedBy = "resume", cascade = CascadeType.ALL)
-    private ReviewScore reviewScore;
+    @Column(length = 100)
+    private String contentType;
 
     @Column(nullable = false)
     private LocalDateTime uploadedAt;
@@ -0,0 +1,28 @@
+package com.resumereview.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * Reference count of a content-addressed upload file: one per resume row plus one per
+ * upload in flight. The row lock serializes creating and deleting the file and its text.
+ */
+@Entity
+@Table(name = "resume_blobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeBlob {
+    @Id
+    @Column(length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private Integer referenceCount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,69 @@
+package com.resumereview.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Entity
+@Table(name = "resume_features")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeFeatures {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "resume_id", nullable = false, unique = true)
+    private Long resumeId;
+
+    @Column(nullable = false)
+    private Integer tokenCount;
+
+    @Column(nullable = false)
+    private Integer textLength;
+
+    @Column(nullable = false)
+    private Integer sectionFlags;
+
+    @Convert(converter = TermFrequencyConverter.class)
+    @Column(length = 4000)
+    private Map<String, Integer> termFrequencies;
+
+    @Column(nullable = false)
+    private Boolean hasPhone;
+
+    @Column(nullable = false)
+    private Boolean hasEmail;
+
+    @Column(nullable = false)
+    private Boolean hasUrl;
+
+    @Column
+    private Integer vocabularyVersion;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Occurrences of a vocabulary term; zero when absent
+     */
+    public int termFrequency(String term) {
+        return termFrequencies == null ? 0 : termFrequencies.getOrDefault(term, 0);
+    }
+
+    public boolean hasTerm(String term) {
+        return termFrequency(term) > 0;
+    }
+
+    public boolean hasSection(ResumeSection section) {
+        return (sectionFlags & section.flag()) != 0;
+    }
+
+    public boolean isEmpty() {
+        return textLength == 0;
+    }
+}
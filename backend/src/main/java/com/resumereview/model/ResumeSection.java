@@ -0,0 +1,28 @@
+package com.resumereview.model;
+
+import java.util.List;
+
+/**
+ * Resume sections recorded as bit flags in {@link ResumeFeatures}
+ */
+public enum ResumeSection {
+    EXPERIENCE("experience", "employment"),
+    EDUCATION("education", "degree"),
+    SKILLS("skill"),
+    PROJECTS("project", "achievement"),
+    CERTIFICATIONS("certification", "license");
+
+    private final List<String> terms;
+
+    ResumeSection(String... terms) {
+        this.terms = List.of(terms);
+    }
+
+    public List<String> getTerms() {
+        return terms;
+    }
+
+    public int flag() {
+        return 1 << ordinal();
+    }
+}
@@ -0,0 +1,14 @@
+package com.resumereview.model;
+
+/**
+ * Lifecycle states stored in {@link Resume#getStatus()}
+ */
+public final class ResumeStatus {
+    public static final String UPLOADED = "UPLOADED";
+    public static final String EXTRACTING = "EXTRACTING";
+    public static final String EXTRACTED = "EXTRACTED";
+    public static final String FAILED = "FAILED";
+
+    private ResumeStatus() {
+    }
+}
@@ -0,0 +1,36 @@
+package com.resumereview.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.Length;
+import java.time.LocalDateTime;
+
+/**
+ * Extracted text of an uploaded file, stored once per content hash and only
+ * loaded when the text itself is needed
+ */
+@Entity
+@Table(name = "resume_texts")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeText {
+    @Id
+    @Column(length = 64)
+    private String contentHash;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(length = Length.LONG32)
+    private String extractedText;
+
+    /** Null on rows stored before extraction limits were recorded */
+    private Boolean truncated;
+
+    /** Cut short by the extraction time limit; the next upload of the same bytes extracts again */
+    private Boolean timedOut;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.Length;
 import java.time.LocalDateTime;
 
 @Entity
@@ -16,7 +17,7 @@ public class ReviewScore {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "resume_id", nullable = false)
     private Resume resume;
 
@@ -32,10 +33,12 @@ public class ReviewScore {
     @Column(nullable = false)
     private Double keywordScore;
 
-    @Column(columnDefinition = "LONGTEXT")
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(length = Length.LONG32)
     private String feedback;
 
-    @Column(columnDefinition = "LONGTEXT")
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(length = Length.LONG32)
     private String suggestions;
 
     @Column(nullable = false)
@@ -0,0 +1,45 @@
+package com.resumereview.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Stores a term-frequency map as a compact JSON object
+ */
+@Converter
+public class TermFrequencyConverter implements AttributeConverter<Map<String, Integer>, String> {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<TreeMap<String, Integer>> TYPE = new TypeReference<>() {
+    };
+
+    @Override
+    public String convertToDatabaseColumn(Map<String, Integer> attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        try {
+            return MAPPER.writeValueAsString(new TreeMap<>(attribute));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize term frequencies", e);
+        }
+    }
+
+    @Override
+    public Map<String, Integer> convertToEntityAttribute(String dbData) {
+        if (dbData == null || dbData.isEmpty()) {
+            return new TreeMap<>();
+        }
+        try {
+            return MAPPER.readValue(dbData, TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot read term frequencies", e);
+        }
+    }
+}
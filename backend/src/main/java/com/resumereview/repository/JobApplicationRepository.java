@@ -1,17 +1,37 @@
 package com.resumereview.repository;
 
+import com.resumereview.dto.JobApplicationDTO;
 import com.resumereview.model.JobApplication;
 import com.resumereview.model.JobSuggestion;
 import com.resumereview.model.Resume;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
-    List<JobApplication> findByResumeOrderByAppliedAtDesc(Resume resume);
+    @Query("select new com.resumereview.dto.JobApplicationDTO(a.id, s.id, s.jobTitle, s.company, a.status, "
+            + "a.applicationNotes, a.responseStatus, a.appliedAt) from JobApplication a join a.jobSuggestion s "
+            + "where a.resume.id = :resumeId and (:status is null or a.status = :status) "
+            + "and a.appliedAt >= :from and a.appliedAt < :to "
+            + "and (a.appliedAt < :beforeAt or (a.appliedAt = :beforeAt and a.id < :beforeId)) "
+            + "order by a.appliedAt desc, a.id desc")
+    List<JobApplicationDTO> findPage(@Param("resumeId") Long resumeId, @Param("status") String status,
+                                     @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                     @Param("beforeAt") LocalDateTime beforeAt, @Param("beforeId") long beforeId,
+                                     Pageable pageable);
+
+    @Query("select a from JobApplication a join fetch a.jobSuggestion where a.resume = :resume order by a.appliedAt desc")
+    List<JobApplication> findByResumeOrderByAppliedAtDesc(@Param("resume") Resume resume);
     List<JobApplication> findByResumeAndStatus(Resume resume, String status);
+    @Query("select distinct a.jobSuggestion.id from JobApplication a where a.jobSuggestion.id in :suggestionIds")
+    List<Long> findAppliedSuggestionIds(@Param("suggestionIds") Collection<Long> suggestionIds);
     Optional<JobApplication> findByJobSuggestionAndResume(JobSuggestion jobSuggestion, Resume resume);
 }
@@ -0,0 +1,12 @@
+package com.resumereview.repository;
+
+import com.resumereview.model.JobPosting;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JobPostingRepository extends JpaRepository<JobPosting, Long> {
+    List<JobPosting> findTop1000ByActiveTrueAndIdGreaterThanOrderByIdAsc(Long id);
+}
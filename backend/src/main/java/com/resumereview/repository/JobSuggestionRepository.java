@@ -1,14 +1,34 @@
 package com.resumereview.repository;
 
+import com.resumereview.dto.JobSuggestionDTO;
 import com.resumereview.model.JobSuggestion;
 import com.resumereview.model.Resume;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface JobSuggestionRepository extends JpaRepository<JobSuggestion, Long> {
+    @Query("select new com.resumereview.dto.JobSuggestionDTO(s.id, s.jobTitle, s.company, s.description, "
+            + "s.matchScore, s.location, s.employmentType, s.requiredSkills, s.jobUrl, s.status) "
+            + "from JobSuggestion s where s.resume.id = :resumeId and s.status = :status "
+            + "and (s.matchScore < :score or (s.matchScore = :score and s.id > :afterId)) "
+            + "order by s.matchScore desc, s.id asc")
+    List<JobSuggestionDTO> findPage(@Param("resumeId") Long resumeId, @Param("status") String status,
+                                    @Param("score") double score, @Param("afterId") long afterId, Pageable pageable);
+
+    @Query("select count(s) as count, max(s.suggestedAt) as lastSuggestedAt from JobSuggestion s "
+            + "where s.resume.id = :resumeId and s.status = :status")
+    SuggestionsVersion findVersion(@Param("resumeId") Long resumeId, @Param("status") String status);
+    @Query("select s.suggestedAt from JobSuggestion s where s.id = :id")
+    Optional<LocalDateTime> findSuggestedAtById(@Param("id") Long id);
     List<JobSuggestion> findByResumeOrderByMatchScoreDesc(Resume resume);
     List<JobSuggestion> findByResumeAndStatus(Resume resume, String status);
+    List<JobSuggestion> findByResumeAndStatusOrderByMatchScoreDesc(Resume resume, String status);
 }
@@ -0,0 +1,16 @@
+package com.resumereview.repository;
+
+import com.resumereview.model.ResumeFeatures;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ResumeFeaturesRepository extends JpaRepository<ResumeFeatures, Long> {
+    Optional<ResumeFeatures> findByResumeId(Long resumeId);
+    List<ResumeFeatures> findByResumeIdIn(Collection<Long> resumeIds);
+    void deleteByResumeId(Long resumeId);
+}
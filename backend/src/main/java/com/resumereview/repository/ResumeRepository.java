@@ -1,16 +1,34 @@
 package com.resumereview.repository;
 
+import com.resumereview.dto.ResumeListItem;
 import com.resumereview.model.Resume;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ResumeRepository extends JpaRepository<Resume, Long> {
+    @Query("select new com.resumereview.dto.ResumeListItem(r.id, r.fileName, r.fileSize, r.contentType, "
+            + "r.contentHash, r.status, r.uploadedAt, r.updatedAt) from Resume r "
+            + "where r.id < :beforeId and (:status is null or r.status = :status) "
+            + "and r.uploadedAt >= :from and r.uploadedAt < :to order by r.id desc")
+    List<ResumeListItem> findPage(@Param("beforeId") long beforeId, @Param("status") String status,
+                                  @Param("from") LocalDateTime from, @Param("to") LocalDateTime to, Pageable pageable);
+
     Optional<Resume> findByFileName(String fileName);
     List<Resume> findByStatusOrderByUploadedAtDesc(String status);
     List<Resume> findByUploadedAtBetween(LocalDateTime start, LocalDateTime end);
+    Optional<ResumeSummary> findSummaryById(Long id);
+    List<ResumeSummary> findSummariesByIdIn(Collection<Long> ids);
+    List<ResumeSummary> findSummariesByStatusOrderByIdAsc(String status, Pageable pageable);
+    List<ResumeSummary> findSummariesByUploadedAtBetweenOrderByIdAsc(LocalDateTime start, LocalDateTime end, Pageable pageable);
+    List<ResumeSummary> findSummariesByStatusAndUploadedAtBetweenOrderByIdAsc(String status, LocalDateTime start, LocalDateTime end,
+                                                                              Pageable pageable);
 }
@@ -0,0 +1,14 @@
+package com.resumereview.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Narrow view of a resume row that leaves out the extracted text
+ */
+public interface ResumeSummary {
+    Long getId();
+    String getFileName();
+    String getContentHash();
+    String getStatus();
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,14 @@
+package com.resumereview.repository;
+
+import com.resumereview.model.ResumeText;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ResumeTextRepository extends JpaRepository<ResumeText, String> {
+    @Query("select count(t) > 0 from ResumeText t where t.contentHash = :contentHash "
+            + "and (t.timedOut is null or t.timedOut = false)")
+    boolean existsCompleteText(@Param("contentHash") String contentHash);
+}
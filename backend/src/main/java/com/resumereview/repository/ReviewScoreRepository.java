@@ -3,6 +3,9 @@ package com.resumereview.repository;
 import com.resumereview.model.ReviewScore;
 import com.resumereview.model.Resume;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,4 +13,7 @@ import java.util.Optional;
 @Repository
 public interface ReviewScoreRepository extends JpaRepository<ReviewScore, Long> {
     Optional<ReviewScore> findByResume(Resume resume);
+    @Modifying
+    @Query("delete from ReviewScore s where s.resume.id = :resumeId")
+    void deleteByResumeId(@Param("resumeId") Long resumeId);
 }
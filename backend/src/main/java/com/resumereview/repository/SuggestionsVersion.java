@@ -0,0 +1,11 @@
+package com.resumereview.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Size and latest change of a resume's suggestion list, used as its ETag version
+ */
+public interface SuggestionsVersion {
+    long getCount();
+    LocalDateTime getLastSuggestedAt();
+}
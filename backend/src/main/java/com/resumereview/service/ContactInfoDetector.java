@@ -0,0 +1,168 @@
+package com.resumereview.service;
+
+import java.util.List;
+
+/**
+ * Single-pass detector for phone numbers, email addresses and profile URLs.
+ * Each detector is a fixed-size state machine, so the work per character is
+ * bounded by a constant regardless of the input, and the scan stops as soon as
+ * every kind of contact information has been seen.
+ */
+public final class ContactInfoDetector {
+
+    /**
+     * Phone pattern \d{3}[-.]?\d{3}[-.]?\d{4}: digit slots and optional separator slots
+     */
+    private static final boolean[] PHONE_OPTIONAL = {
+            false, false, false, true, false, false, false, true, false, false, false, false
+    };
+    private static final int PHONE_ACCEPT = 1 << PHONE_OPTIONAL.length;
+
+    private static final KeywordMatcher URL_MARKERS = KeywordMatcher.of(
+            List.of("http://", "https://", "www.", "linkedin.com/"));
+
+    // Domain part states for [local]+@[domain]+\.[a-z]{2,}
+    private static final int NO_DOMAIN = 0;
+    private static final int DOMAIN_START = 1;
+    private static final int DOMAIN = 2;
+    private static final int DOMAIN_DOT = 3;
+    private static final int TLD_ONE_LETTER = 4;
+    private static final int EMAIL_FOUND = 5;
+
+    private ContactInfoDetector() {
+    }
+
+    /**
+     * Scan the text once and report which kinds of contact information it contains
+     */
+    public static ContactInfo detect(CharSequence text) {
+        if (text == null) {
+            return new ContactInfo(false, false, false);
+        }
+
+        boolean phone = false;
+        boolean email = false;
+        boolean url = false;
+
+        int phoneStates = 0;
+        boolean previousLocal = false;
+        int domainState = NO_DOMAIN;
+        int urlState = 0;
+
+        for (int i = 0; i < text.length() && !(phone && email && url); i++) {
+            char c = text.charAt(i);
+
+            if (!phone) {
+                phoneStates = stepPhone(phoneStates, c);
+                phone = (phoneStates & PHONE_ACCEPT) != 0;
+            }
+
+            if (!email) {
+                domainState = stepDomain(domainState, c, previousLocal);
+                email = domainState == EMAIL_FOUND;
+                previousLocal = isLocalChar(c);
+            }
+
+            if (!url) {
+                urlState = URL_MARKERS.advance(urlState, c);
+                url = URL_MARKERS.isMatch(urlState);
+            }
+        }
+
+        return new ContactInfo(phone, email, url);
+    }
+
+    /**
+     * Advance the set of phone pattern positions (bit i = i slots consumed)
+     */
+    private static int stepPhone(int states, char c) {
+        // A match may start at any character
+        states = closePhone(states | 1);
+
+        int next = 0;
+        boolean digit = c >= '0' && c <= '9';
+        boolean separator = c == '-' || c == '.';
+        for (int slot = 0; slot < PHONE_OPTIONAL.length; slot++) {
+            if ((states & (1 << slot)) == 0) {
+                continue;
+            }
+            if (PHONE_OPTIONAL[slot] ? separator : digit) {
+                next |= 1 << (slot + 1);
+            }
+        }
+        return closePhone(next);
+    }
+
+    /**
+     * Optional separator slots may be skipped
+     */
+    private static int closePhone(int states) {
+        for (int slot = 0; slot < PHONE_OPTIONAL.length; slot++) {
+            if (PHONE_OPTIONAL[slot] && (states & (1 << slot)) != 0) {
+                states |= 1 << (slot + 1);
+            }
+        }
+        return states;
+    }
+
+    /**
+     * Advance the email domain state; returns EMAIL_FOUND once an address is complete
+     */
+    private static int stepDomain(int state, char c, boolean previousLocal) {
+        if (c == '@') {
+            return previousLocal ? DOMAIN_START : NO_DOMAIN;
+        }
+        if (state == NO_DOMAIN || !isDomainChar(c)) {
+            return NO_DOMAIN;
+        }
+
+        boolean letter = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+        switch (state) {
+            case DOMAIN_START:
+                return DOMAIN;
+            case DOMAIN:
+                return c == '.' ? DOMAIN_DOT : DOMAIN;
+            case DOMAIN_DOT:
+                return letter ? TLD_ONE_LETTER : (c == '.' ? DOMAIN_DOT : DOMAIN);
+            case TLD_ONE_LETTER:
+                return letter ? EMAIL_FOUND : (c == '.' ? DOMAIN_DOT : DOMAIN);
+            default:
+                return NO_DOMAIN;
+        }
+    }
+
+    private static boolean isDomainChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '.' || c == '-';
+    }
+
+    private static boolean isLocalChar(char c) {
+        return isDomainChar(c) || c == '_' || c == '%' || c == '+';
+    }
+
+    /**
+     * Kinds of contact information found in a text
+     */
+    public static final class ContactInfo {
+        private final boolean phone;
+        private final boolean email;
+        private final boolean url;
+
+        public ContactInfo(boolean phone, boolean email, boolean url) {
+            this.phone = phone;
+            this.email = email;
+            this.url = url;
+        }
+
+        public boolean hasPhone() {
+            return phone;
+        }
+
+        public boolean hasEmail() {
+            return email;
+        }
+
+        public boolean hasUrl() {
+            return url;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.resumereview.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.hwpf.extractor.WordExtractor;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Reads legacy Word 97-2003 (.doc) files with Apache POI. The OLE2 container is
+ * opened read-only from the file, but HWPF still loads the whole document onto the
+ * heap, so files larger than app.resume.extraction.max-doc-size are refused before
+ * parsing rather than streamed like .docx.
+ */
+@Component
+@Slf4j
+public class DocTextExtractor implements TextExtractor {
+
+    @Value("${app.resume.extraction.max-doc-size:4194304}")
+    private long maxDocSize;
+
+    @Value("${app.resume.extraction.max-characters:200000}")
+    private int maxCharacters;
+
+    @Override
+    public DocumentType getDocumentType() {
+        return DocumentType.DOC;
+    }
+
+    @Override
+    public TextExtraction extract(File file, PageListener listener) throws IOException {
+        if (file.length() > maxDocSize) {
+            throw new IOException("Word 97-2003 document of " + file.length() + " bytes exceeds the "
+                    + maxDocSize + " byte limit for .doc extraction");
+        }
+        try (POIFSFileSystem fileSystem = new POIFSFileSystem(file, true);
+             WordExtractor extractor = new WordExtractor(fileSystem)) {
+            String text = extractor.getText();
+            boolean truncated = text.length() > maxCharacters;
+            if (truncated) {
+                log.warn("Extraction of {} stopped after {} of {} characters (character cap)", file.getName(),
+                        maxCharacters, text.length());
+                text = text.substring(0, maxCharacters);
+            }
+            return new TextExtraction(text, 0, 0, truncated, false, -1, 0);
+        } catch (RuntimeException e) {
+            // POI reports encrypted, Word 6 and otherwise unreadable files with unchecked exceptions
+            throw new IOException("Unreadable Word document: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.resumereview.service;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Resume document formats we accept, identified by their leading magic bytes
+ */
+public enum DocumentType {
+    PDF("application/pdf", "pdf", new byte[]{'%', 'P', 'D', 'F', '-'}),
+    DOCX("application/vnd.openxmlformats-officedocument.wordprocessingml.document", "docx",
+            new byte[]{'P', 'K', 0x03, 0x04}),
+    DOC("application/msword", "doc",
+            new byte[]{(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1});
+
+    /**
+     * Number of leading bytes needed to tell every type apart
+     */
+    public static final int SNIFF_LENGTH = 8;
+
+    private final String contentType;
+    private final String extension;
+    private final byte[] magic;
+
+    DocumentType(String contentType, String extension, byte[] magic) {
+        this.contentType = contentType;
+        this.extension = extension;
+        this.magic = magic;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Detect the document type from the first bytes of a file
+     */
+    public static Optional<DocumentType> detect(byte[] head, int length) {
+        for (DocumentType type : values()) {
+            if (type.matches(head, length)) {
+                return Optional.of(type);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Resolve a type from its MIME content type
+     */
+    public static Optional<DocumentType> fromContentType(String contentType) {
+        for (DocumentType type : values()) {
+            if (type.contentType.equals(contentType)) {
+                return Optional.of(type);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Resolve a type from a file name extension
+     */
+    public static Optional<DocumentType> fromFileName(String fileName) {
+        if (fileName == null) {
+            return Optional.empty();
+        }
+        int dot = fileName.lastIndexOf('.');
+        if (dot < 0) {
+            return Optional.empty();
+        }
+        String extension = fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+        for (DocumentType type : values()) {
+            if (type.extension.equals(extension)) {
+                return Optional.of(type);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private boolean matches(byte[] head, int length) {
+        if (length < magic.length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if (head[i] != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
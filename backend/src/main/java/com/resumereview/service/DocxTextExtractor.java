@@ -0,0 +1,133 @@
+package com.resumereview.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Streams the body text of a .docx out of word/document.xml with a StAX pull
+ * parser, inflating the entry as it is read. Only the text itself is kept in
+ * memory, never the XML, so memory use does not grow with markup or embedded
+ * media. The text is capped at app.resume.extraction.max-characters.
+ */
+@Component
+@Slf4j
+public class DocxTextExtractor implements TextExtractor {
+
+    private static final String DOCUMENT_ENTRY = "word/document.xml";
+    private static final String WORD_NAMESPACE = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory.newFactory();
+
+    static {
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    @Value("${app.resume.extraction.timeout:PT15S}")
+    private Duration timeout;
+
+    @Value("${app.resume.extraction.max-characters:200000}")
+    private int maxCharacters;
+
+    @Override
+    public DocumentType getDocumentType() {
+        return DocumentType.DOCX;
+    }
+
+    @Override
+    public TextExtraction extract(File file, PageListener listener) throws IOException {
+        long deadlineNanos = System.nanoTime() + timeout.toNanos();
+
+        try (ZipFile zip = new ZipFile(file)) {
+            ZipEntry entry = zip.getEntry(DOCUMENT_ENTRY);
+            if (entry == null) {
+                throw new IOException("Not a Word document: " + DOCUMENT_ENTRY + " is missing");
+            }
+
+            try (InputStream in = zip.getInputStream(entry)) {
+                XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+                try {
+                    StringBuilder text = new StringBuilder();
+                    boolean truncated = readBody(reader, text, deadlineNanos);
+                    boolean timedOut = truncated && text.length() < maxCharacters;
+                    if (truncated) {
+                        log.warn("Extraction of {} stopped after {} characters ({})", file.getName(), text.length(),
+                                timedOut ? "time limit" : "character cap");
+                    }
+                    return new TextExtraction(text.toString(), 0, 0, truncated, timedOut, -1, 0);
+                } finally {
+                    reader.close();
+                }
+            } catch (XMLStreamException e) {
+                throw new IOException("Malformed " + DOCUMENT_ENTRY, e);
+            }
+        }
+    }
+
+    /**
+     * Append run text, tabs and line breaks; tabs and breaks count only inside a run
+     * (w:r), since w:tab also declares tab stops in paragraph properties. Returns true
+     * if the character cap or the deadline cut the body short. Both are checked after every parser event, so neither a
+     * single huge paragraph nor a run of markup without text can overshoot them.
+     */
+    private boolean readBody(XMLStreamReader reader, StringBuilder text, long deadlineNanos) throws XMLStreamException {
+        // Runs nest through text boxes, so track depth rather than a flag
+        int runDepth = 0;
+        boolean inText = false;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT && WORD_NAMESPACE.equals(reader.getNamespaceURI())) {
+                switch (reader.getLocalName()) {
+                    case "r" -> runDepth++;
+                    case "t" -> inText = true;
+                    case "tab" -> {
+                        if (runDepth > 0) {
+                            text.append('\t');
+                        }
+                    }
+                    case "br", "cr" -> {
+                        if (runDepth > 0) {
+                            text.append('\n');
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT && WORD_NAMESPACE.equals(reader.getNamespaceURI())) {
+                String name = reader.getLocalName();
+                if (name.equals("r")) {
+                    runDepth--;
+                } else if (name.equals("t")) {
+                    inText = false;
+                } else if (name.equals("p")) {
+                    text.append('\n');
+                }
+            } else if (inText && (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                    || event == XMLStreamConstants.SPACE)) {
+                int length = Math.min(reader.getTextLength(), maxCharacters - text.length());
+                text.append(reader.getTextCharacters(), reader.getTextStart(), length);
+            }
+
+            if (text.length() >= maxCharacters) {
+                text.setLength(maxCharacters);
+                return true;
+            }
+            if (System.nanoTime() - deadlineNanos > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,55 @@
+package com.resumereview.service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Fixed term vocabulary counted into every resume's feature record
+ */
+public final class FeatureVocabulary {
+
+    /**
+     * Bumped whenever the term lists change so stored feature records are recomputed
+     */
+    public static final int VERSION = 2;
+
+    public static final List<String> SECTION_TERMS = List.of("experience", "employment", "education", "degree",
+            "skill", "project", "achievement", "certification", "license", "email", "@", "phone");
+
+    public static final List<String> TECH_TERMS = List.of("java", "python", "javascript", "sql", "rest api", "cloud",
+            "aws", "docker", "kubernetes", "git", "spring", "react", "angular");
+
+    public static final List<String> SOFT_TERMS = List.of("leadership", "communication", "teamwork",
+            "problem solving", "project management", "agile", "analytical");
+
+    public static final List<String> JOB_TERMS = List.of("microservices", "api", "database", "data");
+
+    /**
+     * Additional skills used to match resumes against the job catalog. Matching is by
+     * substring, so short terms that occur inside common words are left out.
+     */
+    public static final List<String> SKILL_TERMS = List.of("typescript", "node.js", "golang", "kotlin", "c++", "c#",
+            "ruby", "php", "django", "flask", "spring boot", "hibernate", "postgresql", "mysql", "mongodb", "redis",
+            "kafka", "apache spark", "hadoop", "airflow", "terraform", "ansible", "jenkins", "ci/cd", "linux",
+            "azure", "gcp", "graphql", "html", "css", "vue", "machine learning", "tensorflow", "pytorch", "pandas",
+            "tableau", "etl", "devops", "security", "testing", "junit", "selenium", "scrum", "system design",
+            "distributed systems", "android", "microservice", "backend", "frontend", "full stack");
+
+    public static final Set<String> TERMS = Set.copyOf(new LinkedHashSet<>(Stream.of(
+            SECTION_TERMS, TECH_TERMS, SOFT_TERMS, JOB_TERMS, SKILL_TERMS).flatMap(List::stream).toList()));
+
+    /**
+     * Matcher over the whole vocabulary, built once
+     */
+    public static final KeywordMatcher MATCHER = KeywordMatcher.of(Stream.of(
+            SECTION_TERMS, TECH_TERMS, SOFT_TERMS, JOB_TERMS, SKILL_TERMS).flatMap(List::stream).toList());
+
+    private FeatureVocabulary() {
+    }
+
+    public static boolean contains(String term) {
+        return TERMS.contains(term);
+    }
+}
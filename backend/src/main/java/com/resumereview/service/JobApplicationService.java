@@ -4,12 +4,14 @@ import com.resumereview.model.JobApplication;
 import com.resumereview.model.JobSuggestion;
 import com.resumereview.model.Resume;
 import com.resumereview.dto.JobApplicationDTO;
+import com.resumereview.dto.KeysetPage;
 import com.resumereview.repository.JobApplicationRepository;
 import com.resumereview.repository.JobSuggestionRepository;
 import com.resumereview.repository.ResumeRepository;
 import com.resumereview.exception.ResourceNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -38,8 +40,10 @@ public class JobApplicationService {
         JobSuggestion jobSuggestion = jobSuggestionRepository.findById(jobSuggestionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job suggestion not found with ID: " + jobSuggestionId));
 
-        Resume resume = resumeRepository.findById(resumeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Resume not found with ID: " + resumeId));
+        if (!resumeRepository.existsById(resumeId)) {
+            throw new ResourceNotFoundException("Resume not found with ID: " + resumeId);
+        }
+        Resume resume = resumeRepository.getReferenceById(resumeId);
 
         // Check if already applied
         if (jobApplicationRepository.findByJobSuggestionAndResume(jobSuggestion, resume).isPresent()) {
@@ -69,6 +73,31 @@ public class JobApplicationService {
         return jobApplicationRepository.findByResumeOrderByAppliedAtDesc(resume);
     }
 
+    /**
+     * Get one keyset page of a resume's applications, newest first, as DTO projections
+     */
+    public KeysetPage<JobApplicationDTO> getApplicationPage(Long resumeId, String status, LocalDateTime appliedFrom,
+                                                            LocalDateTime appliedTo, String cursor, int limit) {
+        if (!resumeRepository.existsById(resumeId)) {
+            throw new ResourceNotFoundException("Resume not found with ID: " + resumeId);
+        }
+        KeysetPage.checkLimit(limit);
+
+        LocalDateTime beforeAt = KeysetCursors.MAX_TIME;
+        long beforeId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = KeysetCursors.split(cursor);
+            beforeAt = KeysetCursors.parseTime(parts[0]);
+            beforeId = KeysetCursors.parseId(parts[1]);
+        }
+
+        List<JobApplicationDTO> rows = jobApplicationRepository.findPage(resumeId, status,
+                appliedFrom != null ? appliedFrom : KeysetCursors.MIN_TIME,
+                appliedTo != null ? appliedTo : KeysetCursors.MAX_TIME,
+                beforeAt, beforeId, PageRequest.of(0, limit + 1));
+        return KeysetPage.of(rows, limit, last -> KeysetCursors.join(last.getAppliedAt(), last.getId()));
+    }
+
     /**
      * Get single application
      */
@@ -119,7 +148,8 @@ public class JobApplicationService {
                 jobSuggestion.getCompany(),
                 application.getStatus(),
                 application.getApplicationNotes(),
-                application.getResponseStatus()
+                application.getResponseStatus(),
+                application.getAppliedAt()
         );
     }
 
@@ -0,0 +1,216 @@
+package com.resumereview.service;
+
+import com.resumereview.dto.JobCatalogIngestResult;
+import com.resumereview.model.JobPosting;
+import com.resumereview.model.TermFrequencyConverter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+@Slf4j
+public class JobCatalogIngestionService {
+
+    private static final String INSERT_SQL = "INSERT INTO job_postings (external_id, job_title, company, description, "
+            + "location, employment_type, required_skills, job_url, term_frequencies, token_count, active, "
+            + "updated_at, record_hash) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL = "UPDATE job_postings SET job_title = ?, company = ?, description = ?, "
+            + "location = ?, employment_type = ?, required_skills = ?, job_url = ?, term_frequencies = ?, "
+            + "token_count = ?, active = ?, updated_at = ?, record_hash = ? WHERE external_id = ?";
+
+    private static final String LOOKUP_SQL = "SELECT external_id, record_hash FROM job_postings WHERE external_id IN (:ids)";
+
+    private static final TermFrequencyConverter TERM_FREQUENCY_CONVERTER = new TermFrequencyConverter();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JobMatchingService jobMatchingService;
+
+    @Value("${app.job-catalog.import-directory:catalog/}")
+    private String importDirectory;
+
+    @Value("${app.job-catalog.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.job-catalog.window-size:67108864}")
+    private int windowSize;
+
+    /**
+     * Ingest a feed file that lives in the configured import directory
+     */
+    public JobCatalogIngestResult ingestFromImportDirectory(String fileName) throws IOException {
+        Path directory = Paths.get(importDirectory).toAbsolutePath().normalize();
+        Path file = directory.resolve(fileName).normalize();
+        if (!file.startsWith(directory)) {
+            throw new IllegalArgumentException("Feed must be inside the import directory");
+        }
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("Feed file not found: " + fileName);
+        }
+        return ingest(file);
+    }
+
+    /**
+     * Ingest a CSV or JSONL feed, inserting new postings and updating only those whose record hash changed
+     */
+    public JobCatalogIngestResult ingest(Path file) throws IOException {
+        long started = System.currentTimeMillis();
+        JobFeedFormat format = JobFeedFormat.fromFileName(file.getFileName().toString());
+        log.info("Ingesting {} job feed: {}", format, file);
+
+        BatchWriter writer = new BatchWriter();
+        long records = new MappedJobFeedReader(format, windowSize).read(file, writer);
+
+        if (writer.inserted + writer.updated > 0) {
+            jobMatchingService.rebuildIndex();
+        }
+
+        JobCatalogIngestResult result = new JobCatalogIngestResult(file.getFileName().toString(), records,
+                writer.inserted, writer.updated, writer.unchanged, writer.malformed,
+                System.currentTimeMillis() - started);
+        log.info("Job feed ingested: {}", result);
+        return result;
+    }
+
+    /**
+     * Collects records per window and writes changed ones in JDBC batches
+     */
+    private class BatchWriter implements MappedJobFeedReader.RecordHandler {
+        private final Map<String, JobFeedRecord> pending = new LinkedHashMap<>();
+        private long inserted;
+        private long updated;
+        private long unchanged;
+        private long malformed;
+
+        @Override
+        public void onRecord(JobFeedRecord record) {
+            // A later record for the same id in one batch supersedes the earlier one
+            pending.put(record.text(JobFeedRecord.EXTERNAL_ID), record.snapshot());
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        @Override
+        public void onMalformedRecord(long fileOffset, String reason) {
+            malformed++;
+            log.warn("Skipping malformed feed record at byte {}: {}", fileOffset, reason);
+        }
+
+        @Override
+        public void onWindowEnd() {
+            // Snapshots point into the mapped window, so they must be written before it moves
+            flush();
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            Map<String, Long> existing = new HashMap<>();
+            namedParameterJdbcTemplate.query(LOOKUP_SQL, Map.of("ids", pending.keySet()), rs -> {
+                long hash = rs.getLong(2);
+                existing.put(rs.getString(1), rs.wasNull() ? null : hash);
+            });
+
+            List<Object[]> inserts = new ArrayList<>();
+            List<Object[]> updates = new ArrayList<>();
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            for (Map.Entry<String, JobFeedRecord> entry : pending.entrySet()) {
+                JobFeedRecord record = entry.getValue();
+                boolean known = existing.containsKey(entry.getKey());
+                if (known && Objects.equals(existing.get(entry.getKey()), record.getHash())) {
+                    unchanged++;
+                    continue;
+                }
+
+                JobPosting posting = toPosting(entry.getKey(), record);
+                if (posting == null) {
+                    malformed++;
+                    continue;
+                }
+                Object[] values = {posting.getJobTitle(), posting.getCompany(), posting.getDescription(),
+                        posting.getLocation(), posting.getEmploymentType(), posting.getRequiredSkills(),
+                        posting.getJobUrl(), TERM_FREQUENCY_CONVERTER.convertToDatabaseColumn(posting.getTermFrequencies()),
+                        posting.getTokenCount(), posting.getActive(), now, record.getHash()};
+                if (known) {
+                    Object[] update = new Object[values.length + 1];
+                    System.arraycopy(values, 0, update, 0, values.length);
+                    update[values.length] = entry.getKey();
+                    updates.add(update);
+                } else {
+                    Object[] insert = new Object[values.length + 1];
+                    insert[0] = entry.getKey();
+                    System.arraycopy(values, 0, insert, 1, values.length);
+                    inserts.add(insert);
+                }
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!inserts.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+                }
+                if (!updates.isEmpty()) {
+                    jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+                }
+            });
+            inserted += inserts.size();
+            updated += updates.size();
+            pending.clear();
+        }
+
+        /**
+         * Decode a changed record into a posting; null when required fields are missing
+         */
+        private JobPosting toPosting(String externalId, JobFeedRecord record) {
+            String title = record.text(JobFeedRecord.TITLE);
+            String company = record.text(JobFeedRecord.COMPANY);
+            if (externalId.length() > 255 || title == null || company == null) {
+                return null;
+            }
+
+            JobPosting posting = new JobPosting();
+            posting.setExternalId(externalId);
+            posting.setJobTitle(truncate(title, 255));
+            posting.setCompany(truncate(company, 255));
+            posting.setDescription(record.text(JobFeedRecord.DESCRIPTION));
+            posting.setLocation(truncate(record.text(JobFeedRecord.LOCATION), 500));
+            posting.setEmploymentType(truncate(record.text(JobFeedRecord.EMPLOYMENT_TYPE), 50));
+            posting.setRequiredSkills(truncate(record.text(JobFeedRecord.REQUIRED_SKILLS), 1000));
+            posting.setJobUrl(truncate(record.text(JobFeedRecord.URL), 500));
+            String active = record.text(JobFeedRecord.ACTIVE);
+            posting.setActive(active == null || !(active.equalsIgnoreCase("false") || active.equals("0")));
+            return JobMatchingService.prepare(posting);
+        }
+
+        private String truncate(String value, int maxLength) {
+            return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+        }
+    }
+}
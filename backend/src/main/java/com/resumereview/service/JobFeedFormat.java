@@ -0,0 +1,25 @@
+package com.resumereview.service;
+
+import java.util.Locale;
+
+/**
+ * Supported job catalog feed formats
+ */
+public enum JobFeedFormat {
+    CSV,
+    JSONL;
+
+    /**
+     * Infer the format from a feed file name
+     */
+    public static JobFeedFormat fromFileName(String fileName) {
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".csv")) {
+            return CSV;
+        }
+        if (lower.endsWith(".jsonl") || lower.endsWith(".ndjson")) {
+            return JSONL;
+        }
+        throw new IllegalArgumentException("Unsupported feed format: " + fileName + " (expected .csv or .jsonl)");
+    }
+}
@@ -0,0 +1,193 @@
+package com.resumereview.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * One feed record held as byte ranges into the mapped file. Field values are
+ * only decoded into Strings when {@link #text(int)} is called, so records that
+ * turn out to be unchanged never allocate per-field Strings. Instances are
+ * reused from record to record and are not thread-safe.
+ */
+public final class JobFeedRecord {
+
+    public static final int EXTERNAL_ID = 0;
+    public static final int TITLE = 1;
+    public static final int COMPANY = 2;
+    public static final int DESCRIPTION = 3;
+    public static final int LOCATION = 4;
+    public static final int EMPLOYMENT_TYPE = 5;
+    public static final int REQUIRED_SKILLS = 6;
+    public static final int URL = 7;
+    public static final int ACTIVE = 8;
+    static final int FIELD_COUNT = 9;
+
+    static final byte PLAIN = 0;
+    static final byte CSV_QUOTED = 1;
+    static final byte JSON_ESCAPED = 2;
+
+    private static final String[][] FIELD_ALIASES = {
+            {"id", "external_id", "externalid"},
+            {"title", "job_title", "jobtitle"},
+            {"company"},
+            {"description"},
+            {"location"},
+            {"employment_type", "employmenttype"},
+            {"required_skills", "requiredskills", "skills"},
+            {"url", "job_url", "joburl"},
+            {"active"}
+    };
+
+    private static final byte[][] ALIAS_BYTES;
+    private static final int[] ALIAS_FIELDS;
+
+    static {
+        int total = Arrays.stream(FIELD_ALIASES).mapToInt(aliases -> aliases.length).sum();
+        ALIAS_BYTES = new byte[total][];
+        ALIAS_FIELDS = new int[total];
+        int i = 0;
+        for (int field = 0; field < FIELD_ALIASES.length; field++) {
+            for (String alias : FIELD_ALIASES[field]) {
+                ALIAS_BYTES[i] = alias.getBytes(StandardCharsets.US_ASCII);
+                ALIAS_FIELDS[i++] = field;
+            }
+        }
+    }
+
+    private final int[] starts = new int[FIELD_COUNT];
+    private final int[] ends = new int[FIELD_COUNT];
+    private final byte[] encodings = new byte[FIELD_COUNT];
+    private ByteBuffer buffer;
+    private byte[] scratch = new byte[0];
+    private long hash;
+
+    /**
+     * Copy of the field ranges that stays usable after this instance moves on to
+     * the next record (but only while the current window is mapped)
+     */
+    public JobFeedRecord snapshot() {
+        JobFeedRecord copy = new JobFeedRecord();
+        copy.buffer = buffer;
+        copy.hash = hash;
+        System.arraycopy(starts, 0, copy.starts, 0, FIELD_COUNT);
+        System.arraycopy(ends, 0, copy.ends, 0, FIELD_COUNT);
+        System.arraycopy(encodings, 0, copy.encodings, 0, FIELD_COUNT);
+        return copy;
+    }
+
+    void reset(ByteBuffer buffer, long hash) {
+        this.buffer = buffer;
+        this.hash = hash;
+        Arrays.fill(starts, -1);
+    }
+
+    void set(int field, int start, int end, byte encoding) {
+        starts[field] = start;
+        ends[field] = end;
+        encodings[field] = encoding;
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the raw record bytes, used to detect changed postings
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    public boolean has(int field) {
+        return starts[field] >= 0;
+    }
+
+    /**
+     * Decode a field value, or null when the record does not carry it
+     */
+    public String text(int field) {
+        if (!has(field)) {
+            return null;
+        }
+        int start = starts[field];
+        int length = ends[field] - start;
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, Math.max(256, scratch.length * 2))];
+        }
+
+        if (encodings[field] == CSV_QUOTED) {
+            // Collapse doubled quotes while copying
+            int out = 0;
+            for (int i = start; i < start + length; i++) {
+                byte b = buffer.get(i);
+                scratch[out++] = b;
+                if (b == '"') {
+                    i++;
+                }
+            }
+            return new String(scratch, 0, out, StandardCharsets.UTF_8);
+        }
+
+        buffer.get(start, scratch, 0, length);
+        String value = new String(scratch, 0, length, StandardCharsets.UTF_8);
+        return encodings[field] == JSON_ESCAPED ? unescapeJson(value) : value;
+    }
+
+    /**
+     * Field id for a CSV header name, or -1 when the column is not used
+     */
+    static int fieldForName(String name) {
+        byte[] lower = name.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.US_ASCII);
+        return fieldForBytes(ByteBuffer.wrap(lower), 0, lower.length);
+    }
+
+    /**
+     * Field id for a key stored in the buffer, compared without decoding it
+     */
+    static int fieldForBytes(ByteBuffer source, int start, int end) {
+        int length = end - start;
+        outer:
+        for (int i = 0; i < ALIAS_BYTES.length; i++) {
+            byte[] alias = ALIAS_BYTES[i];
+            if (alias.length != length) {
+                continue;
+            }
+            for (int j = 0; j < length; j++) {
+                byte b = source.get(start + j);
+                if (b >= 'A' && b <= 'Z') {
+                    b += 'a' - 'A';
+                }
+                if (b != alias[j]) {
+                    continue outer;
+                }
+            }
+            return ALIAS_FIELDS[i];
+        }
+        return -1;
+    }
+
+    private static String unescapeJson(String value) {
+        StringBuilder out = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '\\' || i + 1 >= value.length()) {
+                out.append(c);
+                continue;
+            }
+            char next = value.charAt(++i);
+            switch (next) {
+                case 'n' -> out.append('\n');
+                case 'r' -> out.append('\r');
+                case 't' -> out.append('\t');
+                case 'b' -> out.append('\b');
+                case 'f' -> out.append('\f');
+                case 'u' -> {
+                    if (i + 4 < value.length()) {
+                        out.append((char) Integer.parseInt(value.substring(i + 1, i + 5), 16));
+                        i += 4;
+                    }
+                }
+                default -> out.append(next);
+            }
+        }
+        return out.toString();
+    }
+}
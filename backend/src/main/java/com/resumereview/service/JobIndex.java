@@ -0,0 +1,248 @@
+package com.resumereview.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable BM25 inverted index over the job catalog. Terms are interned to
+ * integer ids and each posting list is a pair of primitive arrays (document
+ * ordinal, term frequency), so a query only touches the postings of the terms
+ * it contains and ranking keeps a bounded top-k heap.
+ */
+public final class JobIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, Integer> termIds;
+    private final int[][] postingDocs;
+    private final int[][] postingFreqs;
+    private final double[] idf;
+    private final long[] jobIds;
+    private final float[] lengthNorms;
+
+    private JobIndex(Map<String, Integer> termIds, int[][] postingDocs, int[][] postingFreqs,
+                     double[] idf, long[] jobIds, float[] lengthNorms) {
+        this.termIds = termIds;
+        this.postingDocs = postingDocs;
+        this.postingFreqs = postingFreqs;
+        this.idf = idf;
+        this.jobIds = jobIds;
+        this.lengthNorms = lengthNorms;
+    }
+
+    public static JobIndex empty() {
+        return new Builder().build();
+    }
+
+    public int size() {
+        return jobIds.length;
+    }
+
+    /**
+     * Rank jobs against the query terms and return the best k, highest score first
+     */
+    public List<Hit> search(Iterable<String> queryTerms, int k) {
+        if (k <= 0 || jobIds.length == 0) {
+            return List.of();
+        }
+
+        float[] scores = new float[jobIds.length];
+        boolean any = false;
+        for (String term : queryTerms) {
+            Integer termId = termIds.get(term);
+            if (termId == null) {
+                continue;
+            }
+            any = true;
+            int[] docs = postingDocs[termId];
+            int[] freqs = postingFreqs[termId];
+            double termIdf = idf[termId];
+            for (int i = 0; i < docs.length; i++) {
+                int tf = freqs[i];
+                scores[docs[i]] += (float) (termIdf * tf * (K1 + 1) / (tf + lengthNorms[docs[i]]));
+            }
+        }
+        if (!any) {
+            return List.of();
+        }
+
+        TopK top = new TopK(Math.min(k, jobIds.length));
+        for (int doc = 0; doc < scores.length; doc++) {
+            if (scores[doc] > 0) {
+                top.offer(doc, scores[doc]);
+            }
+        }
+        return top.drain(jobIds);
+    }
+
+    /**
+     * Ranked job with its BM25 score
+     */
+    public static final class Hit {
+        private final long jobId;
+        private final double score;
+
+        Hit(long jobId, double score) {
+            this.jobId = jobId;
+            this.score = score;
+        }
+
+        public long getJobId() {
+            return jobId;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+
+    /**
+     * Fixed-capacity min-heap over primitive arrays
+     */
+    private static final class TopK {
+        private final int[] docs;
+        private final float[] scores;
+        private int size;
+
+        TopK(int capacity) {
+            docs = new int[capacity];
+            scores = new float[capacity];
+        }
+
+        void offer(int doc, float score) {
+            if (size < docs.length) {
+                docs[size] = doc;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (score > scores[0]) {
+                docs[0] = doc;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        List<Hit> drain(long[] jobIds) {
+            Hit[] ordered = new Hit[size];
+            while (size > 0) {
+                ordered[size - 1] = new Hit(jobIds[docs[0]], scores[0]);
+                size--;
+                docs[0] = docs[size];
+                scores[0] = scores[size];
+                siftDown(0);
+            }
+            return Arrays.asList(ordered);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (scores[parent] <= scores[i]) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int smallest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < size && scores[left] < scores[smallest]) smallest = left;
+                if (right < size && scores[right] < scores[smallest]) smallest = right;
+                if (smallest == i) {
+                    return;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int doc = docs[a];
+            docs[a] = docs[b];
+            docs[b] = doc;
+            float score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+    }
+
+    /**
+     * Accumulates documents into growable primitive posting lists
+     */
+    public static final class Builder {
+        private final Map<String, Integer> termIds = new HashMap<>();
+        private final List<int[]> docs = new ArrayList<>();
+        private final List<int[]> freqs = new ArrayList<>();
+        private final List<Integer> sizes = new ArrayList<>();
+        private long[] jobIds = new long[1024];
+        private int[] lengths = new int[1024];
+        private int count;
+
+        /**
+         * Add one job with its term frequencies and length in tokens
+         */
+        public Builder add(long jobId, Map<String, Integer> termFrequencies, int length) {
+            if (count == jobIds.length) {
+                jobIds = Arrays.copyOf(jobIds, count * 2);
+                lengths = Arrays.copyOf(lengths, count * 2);
+            }
+            int doc = count++;
+            jobIds[doc] = jobId;
+            lengths[doc] = Math.max(length, 1);
+
+            for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+                if (entry.getValue() <= 0) {
+                    continue;
+                }
+                int termId = termIds.computeIfAbsent(entry.getKey().intern(), term -> {
+                    docs.add(new int[8]);
+                    freqs.add(new int[8]);
+                    sizes.add(0);
+                    return docs.size() - 1;
+                });
+                int size = sizes.get(termId);
+                if (size == docs.get(termId).length) {
+                    docs.set(termId, Arrays.copyOf(docs.get(termId), size * 2));
+                    freqs.set(termId, Arrays.copyOf(freqs.get(termId), size * 2));
+                }
+                docs.get(termId)[size] = doc;
+                freqs.get(termId)[size] = entry.getValue();
+                sizes.set(termId, size + 1);
+            }
+            return this;
+        }
+
+        public JobIndex build() {
+            int terms = docs.size();
+            int[][] postingDocs = new int[terms][];
+            int[][] postingFreqs = new int[terms][];
+            double[] idf = new double[terms];
+            for (int t = 0; t < terms; t++) {
+                int df = sizes.get(t);
+                postingDocs[t] = Arrays.copyOf(docs.get(t), df);
+                postingFreqs[t] = Arrays.copyOf(freqs.get(t), df);
+                idf[t] = Math.log(1 + (count - df + 0.5) / (df + 0.5));
+            }
+
+            long totalLength = 0;
+            for (int doc = 0; doc < count; doc++) {
+                totalLength += lengths[doc];
+            }
+            double averageLength = count == 0 ? 1 : (double) totalLength / count;
+            float[] lengthNorms = new float[count];
+            for (int doc = 0; doc < count; doc++) {
+                lengthNorms[doc] = (float) (K1 * (1 - B + B * lengths[doc] / averageLength));
+            }
+
+            return new JobIndex(Map.copyOf(termIds), postingDocs, postingFreqs, idf,
+                    Arrays.copyOf(jobIds, count), lengthNorms);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.resumereview.service;
+
+import com.resumereview.model.JobPosting;
+import com.resumereview.model.ResumeFeatures;
+import com.resumereview.repository.JobPostingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+@Slf4j
+public class JobMatchingService {
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    private volatile JobIndex index = JobIndex.empty();
+
+    /** Serializes rebuilds; a lock rather than synchronized so a virtual thread blocked on JDBC does not pin its carrier */
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    /**
+     * Seed the catalog if it is empty and build the index once the context is up
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (jobPostingRepository.count() == 0) {
+            seedDefaultCatalog();
+        }
+        rebuildIndex();
+    }
+
+    /**
+     * Rebuild the in-memory index from all active postings, paging through them by id
+     */
+    public void rebuildIndex() {
+        rebuildLock.lock();
+        try {
+            long started = System.currentTimeMillis();
+            JobIndex.Builder builder = new JobIndex.Builder();
+
+            long lastId = 0;
+            List<JobPosting> page = jobPostingRepository.findTop1000ByActiveTrueAndIdGreaterThanOrderByIdAsc(lastId);
+            while (!page.isEmpty()) {
+                for (JobPosting posting : page) {
+                    builder.add(posting.getId(), posting.getTermFrequencies(), posting.getTokenCount());
+                    lastId = posting.getId();
+                }
+                page = jobPostingRepository.findTop1000ByActiveTrueAndIdGreaterThanOrderByIdAsc(lastId);
+            }
+
+            index = builder.build();
+            log.info("Job index rebuilt with {} postings in {} ms", index.size(), System.currentTimeMillis() - started);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Best matching jobs for a resume, highest BM25 score first
+     */
+    public List<JobIndex.Hit> topMatches(ResumeFeatures features, int limit) {
+        // Section headings and contact labels say nothing about fit for a particular job
+        List<String> queryTerms = features.getTermFrequencies().keySet().stream()
+                .filter(term -> !FeatureVocabulary.SECTION_TERMS.contains(term))
+                .toList();
+        return index.search(queryTerms, limit);
+    }
+
+    /**
+     * Map a BM25 score onto the 50-100 match score range shown to users. The mapping is
+     * monotonic, so ordering by match score preserves the ranking.
+     */
+    public static double toMatchScore(double bm25) {
+        double scaled = 50.0 + 50.0 * bm25 / (bm25 + 5.0);
+        return Math.round(scaled * 10.0) / 10.0;
+    }
+
+    /**
+     * Fill in the derived matching fields of a posting before it is saved
+     */
+    public static JobPosting prepare(JobPosting posting) {
+        String text = posting.getJobTitle() + "\n" + nullToEmpty(posting.getRequiredSkills()) + "\n"
+                + nullToEmpty(posting.getDescription());
+        posting.setTermFrequencies(ResumeFeatureService.termFrequencies(FeatureVocabulary.MATCHER.scan(text)));
+        posting.setTokenCount(ResumeFeatureService.countTokens(text));
+        if (posting.getActive() == null) {
+            posting.setActive(true);
+        }
+        posting.setUpdatedAt(LocalDateTime.now());
+        return posting;
+    }
+
+    /**
+     * The sample jobs the application shipped with, used until a real catalog is ingested
+     */
+    private void seedDefaultCatalog() {
+        List<JobPosting> defaults = List.of(
+                defaultPosting("Senior Software Engineer", "Tech Corp", "Java, Spring, Microservices, System Design, Leadership"),
+                defaultPosting("Full Stack Developer", "Digital Solutions Inc", "JavaScript, React, REST API, Node.js, SQL, Git"),
+                defaultPosting("Backend Developer", "Cloud Systems Ltd", "SQL, Database, Cloud, Java/Python, Microservices"),
+                defaultPosting("DevOps Engineer", "Innovation Labs", "Docker, Kubernetes, AWS, CI/CD, Linux"),
+                defaultPosting("Data Engineer", "Analytics Pro", "SQL, Data, Python, ETL, Apache Spark"));
+        jobPostingRepository.saveAll(defaults);
+        log.info("Seeded job catalog with {} default postings", defaults.size());
+    }
+
+    private JobPosting defaultPosting(String jobTitle, String company, String requiredSkills) {
+        JobPosting posting = new JobPosting();
+        String slug = jobTitle.toLowerCase().replace(" ", "-");
+        posting.setExternalId("default-" + slug);
+        posting.setJobTitle(jobTitle);
+        posting.setCompany(company);
+        posting.setDescription("We are looking for a talented " + jobTitle + " to join our team. " +
+                "You will work on challenging projects using modern technologies and collaborate with a team of experienced professionals.");
+        posting.setLocation("Remote / Hybrid");
+        posting.setEmploymentType("Full-time");
+        posting.setRequiredSkills(requiredSkills);
+        posting.setJobUrl("https://example.com/jobs/" + slug);
+        return prepare(posting);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -1,18 +1,35 @@
 package com.resumereview.service;
 
+import com.resumereview.model.JobPosting;
 import com.resumereview.model.JobSuggestion;
 import com.resumereview.model.Resume;
+import com.resumereview.model.ResumeFeatures;
 import com.resumereview.dto.JobSuggestionDTO;
+import com.resumereview.dto.KeysetPage;
+import com.resumereview.repository.JobApplicationRepository;
+import com.resumereview.repository.JobPostingRepository;
 import com.resumereview.repository.JobSuggestionRepository;
 import com.resumereview.repository.ResumeRepository;
+import com.resumereview.repository.SuggestionsVersion;
 import com.resumereview.exception.ResourceNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,108 +42,272 @@ public class JobSuggestionService {
     @Autowired
     private ResumeRepository resumeRepository;
 
+    @Autowired
+    private ResumeFeatureService resumeFeatureService;
+
+    @Autowired
+    private JobMatchingService jobMatchingService;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private ResumeResultCache resumeResultCache;
+
+    @Autowired
+    private ResumeMetrics resumeMetrics;
+
+    @Autowired
+    private ResumeEventPublisher resumeEventPublisher;
+
+    @Value("${app.job-matching.default-limit:10}")
+    private int defaultLimit;
+
     /**
      * Generate job suggestions based on resume
      */
     public List<JobSuggestion> generateJobSuggestions(Long resumeId) {
+        return generateJobSuggestions(resumeId, defaultLimit);
+    }
+
+    /**
+     * Generate the best {@code limit} job suggestions from the catalog for a resume.
+     * Regeneration reconciles with the suggestions already stored for the resume.
+     */
+    @Transactional
+    public List<JobSuggestion> generateJobSuggestions(Long resumeId, int limit) {
         log.info("Generating job suggestions for resume ID: {}", resumeId);
+        long startNanos = System.nanoTime();
 
-        Resume resume = resumeRepository.findById(resumeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Resume not found with ID: " + resumeId));
+        // Matching runs off the feature record and the index, never a twin upload's suggestions,
+        // so results always reflect the current catalog and the requested limit
+        if (!resumeRepository.existsById(resumeId)) {
+            throw new ResourceNotFoundException("Resume not found with ID: " + resumeId);
+        }
+        Resume resume = resumeRepository.getReferenceById(resumeId);
 
-        List<JobSuggestion> suggestions = new ArrayList<>();
-        String resumeText = resume.getExtractedText().toLowerCase();
-
-        // Sample job suggestions based on keywords
-        suggestions.add(createJobSuggestion(resume, "Senior Software Engineer", "Tech Corp", 
-                calculateMatchScore(resumeText, "java", "spring", "microservices")));
-        
-        suggestions.add(createJobSuggestion(resume, "Full Stack Developer", "Digital Solutions Inc",
-                calculateMatchScore(resumeText, "javascript", "react", "api")));
-        
-        suggestions.add(createJobSuggestion(resume, "Backend Developer", "Cloud Systems Ltd",
-                calculateMatchScore(resumeText, "sql", "database", "cloud")));
-        
-        suggestions.add(createJobSuggestion(resume, "DevOps Engineer", "Innovation Labs",
-                calculateMatchScore(resumeText, "docker", "kubernetes", "aws")));
-        
-        suggestions.add(createJobSuggestion(resume, "Data Engineer", "Analytics Pro",
-                calculateMatchScore(resumeText, "sql", "data", "python")));
-
-        // Save all suggestions
-        suggestions = jobSuggestionRepository.saveAll(suggestions);
+        ResumeFeatures features = resumeFeatureService.getFeatures(resumeId);
+        long matchStartNanos = System.nanoTime();
+        List<JobIndex.Hit> hits = jobMatchingService.topMatches(features, limit);
+        StageTimings.record(StageTimings.MATCHING, System.nanoTime() - matchStartNanos);
+
+        List<JobSuggestion> suggestions = reconcile(resume, buildSuggestions(resume, hits));
+        resumeMetrics.recordSuggestions(System.nanoTime() - startNanos);
+        resumeEventPublisher.suggestionsReady(resumeId, suggestions.size());
         log.info("Generated {} job suggestions for resume ID: {}", suggestions.size(), resumeId);
 
         return suggestions;
     }
 
     /**
-     * Create a job suggestion
+     * Build unsaved suggestions for index hits, in hit order, from their catalog postings
      */
-    private JobSuggestion createJobSuggestion(Resume resume, String jobTitle, String company, Double matchScore) {
+    public List<JobSuggestion> buildSuggestions(Resume resume, List<JobIndex.Hit> hits) {
+        Map<Long, JobPosting> postings = new HashMap<>();
+        for (JobPosting posting : jobPostingRepository.findAllById(hits.stream().map(JobIndex.Hit::getJobId).toList())) {
+            postings.put(posting.getId(), posting);
+        }
+
+        List<JobSuggestion> suggestions = new ArrayList<>();
+        for (JobIndex.Hit hit : hits) {
+            // Postings removed since the index was built are skipped
+            JobPosting posting = postings.get(hit.getJobId());
+            if (posting != null) {
+                suggestions.add(createJobSuggestion(resume, posting, JobMatchingService.toMatchScore(hit.getScore())));
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * Merge freshly computed suggestions into the stored ones: rows for the same job are
+     * updated only when something changed, new jobs are inserted, and jobs no longer
+     * suggested are deleted, or marked RETIRED when an application references them.
+     * All writes are flushed as JDBC batches at commit.
+     */
+    private List<JobSuggestion> reconcile(Resume resume, List<JobSuggestion> computed) {
+        Map<String, JobSuggestion> existing = new HashMap<>();
+        List<JobSuggestion> stale = new ArrayList<>();
+        for (JobSuggestion suggestion : jobSuggestionRepository.findByResumeOrderByMatchScoreDesc(resume)) {
+            // Duplicates left by the former append-only regeneration are dropped
+            if (existing.putIfAbsent(jobKey(suggestion), suggestion) != null) {
+                stale.add(suggestion);
+            }
+        }
+
+        List<JobSuggestion> active = new ArrayList<>();
+        List<JobSuggestion> inserts = new ArrayList<>();
+        for (JobSuggestion suggestion : computed) {
+            JobSuggestion current = existing.remove(jobKey(suggestion));
+            if (current == null) {
+                inserts.add(suggestion);
+                active.add(suggestion);
+                continue;
+            }
+            // suggestedAt moves whenever the row changes, so it doubles as the row version
+            if (hasChanged(current, suggestion)) {
+                current.setMatchScore(suggestion.getMatchScore());
+                current.setStatus("ACTIVE");
+                current.setSuggestedAt(suggestion.getSuggestedAt());
+                current.setJobPostingId(suggestion.getJobPostingId());
+                current.setJobTitle(suggestion.getJobTitle());
+                current.setCompany(suggestion.getCompany());
+                current.setDescription(suggestion.getDescription());
+                current.setLocation(suggestion.getLocation());
+                current.setEmploymentType(suggestion.getEmploymentType());
+                current.setRequiredSkills(suggestion.getRequiredSkills());
+                current.setJobUrl(suggestion.getJobUrl());
+            }
+            active.add(current);
+        }
+        stale.addAll(existing.values());
+
+        jobSuggestionRepository.saveAll(inserts);
+        retire(stale);
+
+        resumeResultCache.invalidateJobSuggestions(resume.getId());
+        active.sort(Comparator.comparing(JobSuggestion::getMatchScore).reversed());
+        log.debug("Reconciled suggestions for resume ID: {}: {} inserted, {} kept, {} stale",
+                resume.getId(), inserts.size(), active.size() - inserts.size(), stale.size());
+        return active;
+    }
+
+    private static boolean hasChanged(JobSuggestion current, JobSuggestion computed) {
+        return !"ACTIVE".equals(current.getStatus())
+                || !Objects.equals(current.getMatchScore(), computed.getMatchScore())
+                || !Objects.equals(current.getJobPostingId(), computed.getJobPostingId())
+                || !Objects.equals(current.getJobTitle(), computed.getJobTitle())
+                || !Objects.equals(current.getCompany(), computed.getCompany())
+                || !Objects.equals(current.getDescription(), computed.getDescription())
+                || !Objects.equals(current.getLocation(), computed.getLocation())
+                || !Objects.equals(current.getEmploymentType(), computed.getEmploymentType())
+                || !Objects.equals(current.getRequiredSkills(), computed.getRequiredSkills())
+                || !Objects.equals(current.getJobUrl(), computed.getJobUrl());
+    }
+
+    private void retire(List<JobSuggestion> stale) {
+        if (stale.isEmpty()) {
+            return;
+        }
+        Set<Long> applied = new HashSet<>(jobApplicationRepository.findAppliedSuggestionIds(
+                stale.stream().map(JobSuggestion::getId).toList()));
+        List<JobSuggestion> deletable = new ArrayList<>();
+        for (JobSuggestion suggestion : stale) {
+            if (applied.contains(suggestion.getId())) {
+                suggestion.setStatus("RETIRED");
+            } else {
+                deletable.add(suggestion);
+            }
+        }
+        jobSuggestionRepository.deleteAllInBatch(deletable);
+    }
+
+    /**
+     * Suggestions are matched on the catalog posting, or on title and company for rows
+     * created before suggestions referenced postings
+     */
+    private static String jobKey(JobSuggestion suggestion) {
+        return suggestion.getJobPostingId() != null
+                ? "posting:" + suggestion.getJobPostingId()
+                : suggestion.getJobTitle() + "|" + suggestion.getCompany();
+    }
+
+    /**
+     * Create a job suggestion from a catalog posting
+     */
+    private JobSuggestion createJobSuggestion(Resume resume, JobPosting posting, Double matchScore) {
         JobSuggestion suggestion = new JobSuggestion();
         suggestion.setResume(resume);
-        suggestion.setJobTitle(jobTitle);
-        suggestion.setCompany(company);
+        suggestion.setJobPostingId(posting.getId());
+        suggestion.setJobTitle(posting.getJobTitle());
+        suggestion.setCompany(posting.getCompany());
         suggestion.setMatchScore(matchScore);
-        suggestion.setLocation("Remote / Hybrid");
-        suggestion.setEmploymentType("Full-time");
+        suggestion.setLocation(posting.getLocation());
+        suggestion.setEmploymentType(posting.getEmploymentType());
         suggestion.setStatus("ACTIVE");
         suggestion.setSuggestedAt(LocalDateTime.now());
-
-        // Add sample data
-        suggestion.setDescription(generateJobDescription(jobTitle));
-        suggestion.setRequiredSkills(generateRequiredSkills(jobTitle));
-        suggestion.setJobUrl("https://example.com/jobs/" + jobTitle.toLowerCase().replace(" ", "-"));
+        suggestion.setDescription(posting.getDescription());
+        suggestion.setRequiredSkills(posting.getRequiredSkills());
+        suggestion.setJobUrl(posting.getJobUrl());
 
         return suggestion;
     }
 
     /**
-     * Calculate match score based on keywords in resume
+     * Get the active job suggestions for a resume
      */
-    private Double calculateMatchScore(String resumeText, String... keywords) {
-        int matches = 0;
-        for (String keyword : keywords) {
-            if (resumeText.contains(keyword)) {
-                matches++;
-            }
-        }
-        return Math.min(50.0 + (matches * 15.0), 100.0);
+    public List<JobSuggestion> getJobSuggestions(Long resumeId) {
+        Resume resume = resumeRepository.findById(resumeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Resume not found with ID: " + resumeId));
+
+        return jobSuggestionRepository.findByResumeAndStatusOrderByMatchScoreDesc(resume, "ACTIVE");
     }
 
     /**
-     * Generate job description
+     * Get one keyset page of a resume's suggestions, best match first, as DTO projections
      */
-    private String generateJobDescription(String jobTitle) {
-        return "We are looking for a talented " + jobTitle + " to join our team. " +
-               "You will work on challenging projects using modern technologies and collaborate with a team of experienced professionals.";
+    public KeysetPage<JobSuggestionDTO> getJobSuggestionPage(Long resumeId, String status, String cursor, int limit) {
+        KeysetPage.checkLimit(limit);
+
+        double score = Double.MAX_VALUE;
+        long afterId = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = KeysetCursors.split(cursor);
+            score = KeysetCursors.parseScore(parts[0]);
+            afterId = KeysetCursors.parseId(parts[1]);
+        }
+
+        List<JobSuggestionDTO> rows;
+        if (status == null || "ACTIVE".equals(status)) {
+            // The active set is small (one generation), so it is cached whole and paged in memory
+            rows = new ArrayList<>();
+            for (JobSuggestionDTO suggestion : getActiveJobSuggestions(resumeId)) {
+                double matchScore = suggestion.getMatchScore();
+                if (matchScore < score || (matchScore == score && suggestion.getId() > afterId)) {
+                    rows.add(suggestion);
+                    if (rows.size() > limit) {
+                        break;
+                    }
+                }
+            }
+        } else {
+            requireResume(resumeId);
+            rows = jobSuggestionRepository.findPage(resumeId, status, score, afterId, PageRequest.of(0, limit + 1));
+        }
+        return KeysetPage.of(rows, limit, last -> KeysetCursors.join(last.getMatchScore(), last.getId()));
     }
 
     /**
-     * Generate required skills
+     * Active suggestions of a resume in page order, served from the result cache
      */
-    private String generateRequiredSkills(String jobTitle) {
-        if (jobTitle.contains("Senior")) {
-            return "5+ years experience, Leadership, System Design, Problem Solving";
-        } else if (jobTitle.contains("Backend")) {
-            return "REST API, SQL, Java/Python, Microservices, Cloud";
-        } else if (jobTitle.contains("Full Stack")) {
-            return "JavaScript, React, Node.js, SQL, Git";
-        } else if (jobTitle.contains("DevOps")) {
-            return "Docker, Kubernetes, AWS, CI/CD, Linux";
+    private List<JobSuggestionDTO> getActiveJobSuggestions(Long resumeId) {
+        return resumeResultCache.getJobSuggestions(resumeId, id -> {
+            requireResume(id);
+            return List.copyOf(jobSuggestionRepository.findPage(id, "ACTIVE", Double.MAX_VALUE, 0, Pageable.unpaged()));
+        });
+    }
+
+    private void requireResume(Long resumeId) {
+        if (!resumeRepository.existsById(resumeId)) {
+            throw new ResourceNotFoundException("Resume not found with ID: " + resumeId);
         }
-        return "Technical Skills, Problem Solving, Teamwork";
     }
 
     /**
-     * Get job suggestions for a resume
+     * Number and latest change time of a resume's suggestions with the given status
      */
-    public List<JobSuggestion> getJobSuggestions(Long resumeId) {
-        Resume resume = resumeRepository.findById(resumeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Resume not found with ID: " + resumeId));
+    public SuggestionsVersion getJobSuggestionsVersion(Long resumeId, String status) {
+        return jobSuggestionRepository.findVersion(resumeId, status != null ? status : "ACTIVE");
+    }
 
-        return jobSuggestionRepository.findByResumeOrderByMatchScoreDesc(resume);
+    /**
+     * Last change time of a single suggestion, if it exists
+     */
+    public Optional<LocalDateTime> getJobSuggestionVersion(Long id) {
+        return jobSuggestionRepository.findSuggestedAtById(id);
     }
 
     /**
@@ -0,0 +1,53 @@
+package com.resumereview.service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Encoding of composite keyset cursors as "sortKey_id"
+ */
+final class KeysetCursors {
+
+    /** Open bounds for optional date filters, within the range of every supported database */
+    static final LocalDateTime MIN_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+    static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private KeysetCursors() {
+    }
+
+    static String join(Object sortKey, Long id) {
+        return sortKey + "_" + id;
+    }
+
+    static String[] split(String cursor) {
+        int separator = cursor.lastIndexOf('_');
+        if (separator <= 0 || separator == cursor.length() - 1) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        return new String[]{cursor.substring(0, separator), cursor.substring(separator + 1)};
+    }
+
+    static long parseId(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + value);
+        }
+    }
+
+    static double parseScore(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + value);
+        }
+    }
+
+    static LocalDateTime parseTime(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + value);
+        }
+    }
+}
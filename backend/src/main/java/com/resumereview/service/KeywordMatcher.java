@@ -0,0 +1,249 @@
+package com.resumereview.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aho-Corasick automaton over a fixed set of lower-case ASCII keywords.
+ * The text is lower-cased on the fly and scanned once, counting every
+ * occurrence of every keyword. Instances are immutable and thread-safe.
+ */
+public final class KeywordMatcher {
+
+    private static final int ALPHABET = 128;
+
+    private final String[] keywords;
+    private final Map<String, Integer> keywordIds;
+    private final int[] transitions;
+    private final int[][] outputs;
+
+    private KeywordMatcher(String[] keywords, int[] transitions, int[][] outputs) {
+        this.keywords = keywords;
+        this.transitions = transitions;
+        this.outputs = outputs;
+        this.keywordIds = new HashMap<>();
+        for (int i = 0; i < keywords.length; i++) {
+            keywordIds.put(keywords[i], i);
+        }
+    }
+
+    /**
+     * Build an automaton for the given keywords (duplicates are ignored)
+     */
+    public static KeywordMatcher of(Collection<String> keywords) {
+        String[] unique = new LinkedHashSet<>(keywords).toArray(new String[0]);
+
+        // Trie construction
+        List<int[]> children = new ArrayList<>();
+        List<List<Integer>> own = new ArrayList<>();
+        children.add(newRow());
+        own.add(new ArrayList<>());
+        for (int id = 0; id < unique.length; id++) {
+            String keyword = unique[id];
+            if (keyword.isEmpty()) {
+                throw new IllegalArgumentException("Keywords cannot be empty");
+            }
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = keyword.charAt(i);
+                if (c >= ALPHABET || Character.isUpperCase(c)) {
+                    throw new IllegalArgumentException("Keywords must be lower-case ASCII: " + keyword);
+                }
+                if (children.get(state)[c] < 0) {
+                    children.get(state)[c] = children.size();
+                    children.add(newRow());
+                    own.add(new ArrayList<>());
+                }
+                state = children.get(state)[c];
+            }
+            own.get(state).add(id);
+        }
+
+        // Breadth-first failure links, folded into a complete transition table
+        int states = children.size();
+        int[] transitions = new int[states * ALPHABET];
+        int[] failure = new int[states];
+        int[][] outputs = new int[states][];
+        outputs[0] = toArray(own.get(0), null);
+
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < ALPHABET; c++) {
+            int child = children.get(0)[c];
+            if (child < 0) {
+                transitions[c] = 0;
+            } else {
+                transitions[c] = child;
+                failure[child] = 0;
+                outputs[child] = toArray(own.get(child), outputs[0]);
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int c = 0; c < ALPHABET; c++) {
+                int child = children.get(state)[c];
+                int fallback = transitions[failure[state] * ALPHABET + c];
+                if (child < 0) {
+                    transitions[state * ALPHABET + c] = fallback;
+                } else {
+                    transitions[state * ALPHABET + c] = child;
+                    failure[child] = fallback;
+                    outputs[child] = toArray(own.get(child), outputs[fallback]);
+                    queue.add(child);
+                }
+            }
+        }
+
+        return new KeywordMatcher(unique, transitions, outputs);
+    }
+
+    /**
+     * Lower-case and scan the text in a single pass
+     */
+    public Matches scan(CharSequence text) {
+        int[] counts = new int[keywords.length];
+        if (text == null) {
+            return new Matches(counts, 0);
+        }
+
+        int state = 0;
+        int lowerCaseLength = text.length();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int lower;
+            if (c < ALPHABET) {
+                lower = c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+            } else if (c == '\u0130') {
+                // String.toLowerCase maps dotted capital I to "i" + combining dot
+                state = transitions[state * ALPHABET + 'i'];
+                mark(state, counts);
+                lowerCaseLength++;
+                state = 0;
+                continue;
+            } else {
+                lower = Character.toLowerCase(c);
+            }
+
+            if (lower >= ALPHABET) {
+                state = 0;
+                continue;
+            }
+            state = transitions[state * ALPHABET + lower];
+            mark(state, counts);
+        }
+        return new Matches(counts, lowerCaseLength);
+    }
+
+    /**
+     * Advance the automaton by one character for callers that drive their own
+     * scan loop; non-ASCII characters reset to the start state (0)
+     */
+    int advance(int state, char c) {
+        int lower;
+        if (c < ALPHABET) {
+            lower = c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+        } else {
+            lower = Character.toLowerCase(c);
+        }
+        return lower < ALPHABET ? transitions[state * ALPHABET + lower] : 0;
+    }
+
+    /**
+     * Whether some keyword ends at the given state
+     */
+    boolean isMatch(int state) {
+        return outputs[state].length > 0;
+    }
+
+    private void mark(int state, int[] counts) {
+        for (int id : outputs[state]) {
+            counts[id]++;
+        }
+    }
+
+    private static int[] newRow() {
+        int[] row = new int[ALPHABET];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    private static int[] toArray(List<Integer> own, int[] inherited) {
+        int inheritedLength = inherited == null ? 0 : inherited.length;
+        int[] result = new int[own.size() + inheritedLength];
+        for (int i = 0; i < own.size(); i++) {
+            result[i] = own.get(i);
+        }
+        if (inheritedLength > 0) {
+            System.arraycopy(inherited, 0, result, own.size(), inheritedLength);
+        }
+        return result;
+    }
+
+    /**
+     * Registered keywords, in registration order
+     */
+    public List<String> getKeywords() {
+        return List.of(keywords);
+    }
+
+    /**
+     * Keyword occurrences in one scanned text
+     */
+    public final class Matches {
+        private final int[] counts;
+        private final int length;
+
+        private Matches(int[] counts, int length) {
+            this.counts = counts;
+            this.length = length;
+        }
+
+        /**
+         * Number of (possibly overlapping) occurrences of a registered keyword
+         */
+        public int count(String keyword) {
+            Integer id = keywordIds.get(keyword);
+            if (id == null) {
+                throw new IllegalArgumentException("Keyword not registered with matcher: " + keyword);
+            }
+            return counts[id];
+        }
+
+        /**
+         * Whether the keyword occurs in the text; it must be part of the matcher
+         */
+        public boolean contains(String keyword) {
+            return count(keyword) > 0;
+        }
+
+        /**
+         * Whether any of the keywords occur in the text
+         */
+        public boolean containsAny(String... candidates) {
+            for (String keyword : candidates) {
+                if (contains(keyword)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Length of the lower-cased text
+         */
+        public int length() {
+            return length;
+        }
+
+        public boolean isEmpty() {
+            return length == 0;
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.resumereview.service;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Walks a CSV or JSONL job feed through a sliding memory-mapped window. Record
+ * boundaries and field ranges are found directly on the mapped bytes; a record
+ * that straddles the end of a window is re-read from the start of the next one.
+ */
+public final class MappedJobFeedReader {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * Receives records in file order. Record ranges are only valid until
+     * {@link #onWindowEnd()}, which is called before the window moves.
+     */
+    public interface RecordHandler {
+        void onRecord(JobFeedRecord record) throws IOException;
+
+        void onMalformedRecord(long fileOffset, String reason);
+
+        void onWindowEnd() throws IOException;
+    }
+
+    private final JobFeedFormat format;
+    private final int windowSize;
+    private int[] columnFields;
+
+    public MappedJobFeedReader(JobFeedFormat format, int windowSize) {
+        this.format = format;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Read the whole file, returning the number of non-empty records seen
+     */
+    public long read(Path file, RecordHandler handler) throws IOException {
+        long records = 0;
+        JobFeedRecord record = new JobFeedRecord();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                int length = (int) Math.min(windowSize, size - position);
+                boolean lastWindow = position + length == size;
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+                int offset = 0;
+                while (offset < length) {
+                    int end = findRecordEnd(window, offset, length);
+                    if (end < 0) {
+                        if (!lastWindow) {
+                            break;
+                        }
+                        end = length;
+                    }
+
+                    int contentEnd = end > offset && window.get(end - 1) == '\r' ? end - 1 : end;
+                    if (contentEnd > offset) {
+                        if (format == JobFeedFormat.CSV && columnFields == null) {
+                            readHeader(window, offset, contentEnd);
+                        } else {
+                            records++;
+                            record.reset(window, hash(window, offset, contentEnd));
+                            String error = format == JobFeedFormat.CSV
+                                    ? parseCsv(window, offset, contentEnd, record)
+                                    : parseJson(window, offset, contentEnd, record);
+                            if (error == null) {
+                                handler.onRecord(record);
+                            } else {
+                                handler.onMalformedRecord(position + offset, error);
+                            }
+                        }
+                    }
+                    offset = end + 1;
+                }
+
+                handler.onWindowEnd();
+                if (offset == 0) {
+                    throw new IOException("Record at byte " + position + " is larger than the " + windowSize + " byte read window");
+                }
+                position += Math.min(offset, length);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Index of the newline ending the record that starts at offset, or -1 if it runs past the window
+     */
+    private int findRecordEnd(MappedByteBuffer window, int offset, int limit) {
+        boolean inQuotes = false;
+        for (int i = offset; i < limit; i++) {
+            byte b = window.get(i);
+            if (b == '"' && format == JobFeedFormat.CSV) {
+                inQuotes = !inQuotes;
+            } else if (b == '\n' && !inQuotes) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void readHeader(MappedByteBuffer window, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        window.get(start, bytes);
+        String[] names = new String(bytes, StandardCharsets.UTF_8).split(",", -1);
+        columnFields = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            columnFields[i] = JobFeedRecord.fieldForName(names[i].replace("\"", ""));
+        }
+        if (Arrays.stream(columnFields).noneMatch(field -> field == JobFeedRecord.EXTERNAL_ID)) {
+            throw new IllegalArgumentException("CSV header has no id/external_id column");
+        }
+    }
+
+    /**
+     * RFC 4180 fields: quoted fields may contain commas, newlines and doubled quotes
+     */
+    private String parseCsv(MappedByteBuffer window, int start, int end, JobFeedRecord record) {
+        int column = 0;
+        int i = start;
+        while (i <= end) {
+            int fieldStart;
+            int fieldEnd;
+            byte encoding = JobFeedRecord.PLAIN;
+            if (i < end && window.get(i) == '"') {
+                fieldStart = i + 1;
+                int j = fieldStart;
+                while (true) {
+                    if (j >= end) {
+                        return "unterminated quoted field";
+                    }
+                    if (window.get(j) == '"') {
+                        if (j + 1 < end && window.get(j + 1) == '"') {
+                            j += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    j++;
+                }
+                fieldEnd = j;
+                encoding = JobFeedRecord.CSV_QUOTED;
+                i = j + 1;
+                if (i < end && window.get(i) != ',') {
+                    return "unexpected character after quoted field";
+                }
+            } else {
+                fieldStart = i;
+                while (i < end && window.get(i) != ',') {
+                    i++;
+                }
+                fieldEnd = i;
+            }
+
+            if (column < columnFields.length && columnFields[column] >= 0 && fieldEnd > fieldStart) {
+                record.set(columnFields[column], fieldStart, fieldEnd, encoding);
+            }
+            column++;
+            i++;
+        }
+        return record.has(JobFeedRecord.EXTERNAL_ID) ? null : "missing id";
+    }
+
+    /**
+     * Flat JSON object per line; nested values are skipped, string escapes are decoded lazily
+     */
+    private String parseJson(MappedByteBuffer window, int start, int end, JobFeedRecord record) {
+        int i = skipWhitespace(window, start, end);
+        if (i >= end || window.get(i) != '{') {
+            return "expected '{'";
+        }
+        i = skipWhitespace(window, i + 1, end);
+        if (i < end && window.get(i) == '}') {
+            return "missing id";
+        }
+
+        while (i < end) {
+            if (window.get(i) != '"') {
+                return "expected field name";
+            }
+            int keyStart = i + 1;
+            int keyEnd = findStringEnd(window, keyStart, end);
+            if (keyEnd < 0) {
+                return "unterminated field name";
+            }
+            int field = JobFeedRecord.fieldForBytes(window, keyStart, keyEnd);
+
+            i = skipWhitespace(window, keyEnd + 1, end);
+            if (i >= end || window.get(i) != ':') {
+                return "expected ':'";
+            }
+            i = skipWhitespace(window, i + 1, end);
+            if (i >= end) {
+                return "missing value";
+            }
+
+            byte first = window.get(i);
+            if (first == '"') {
+                int valueStart = i + 1;
+                int valueEnd = findStringEnd(window, valueStart, end);
+                if (valueEnd < 0) {
+                    return "unterminated string";
+                }
+                if (field >= 0 && valueEnd > valueStart) {
+                    record.set(field, valueStart, valueEnd, hasEscape(window, valueStart, valueEnd)
+                            ? JobFeedRecord.JSON_ESCAPED : JobFeedRecord.PLAIN);
+                }
+                i = valueEnd + 1;
+            } else if (first == '{' || first == '[') {
+                i = skipNested(window, i, end);
+                if (i < 0) {
+                    return "unterminated nested value";
+                }
+            } else {
+                int valueStart = i;
+                while (i < end && window.get(i) != ',' && window.get(i) != '}' && !isWhitespace(window.get(i))) {
+                    i++;
+                }
+                boolean isNull = i - valueStart == 4 && window.get(valueStart) == 'n';
+                if (field >= 0 && !isNull) {
+                    record.set(field, valueStart, i, JobFeedRecord.PLAIN);
+                }
+            }
+
+            i = skipWhitespace(window, i, end);
+            if (i >= end) {
+                return "expected ',' or '}'";
+            }
+            if (window.get(i) == '}') {
+                return record.has(JobFeedRecord.EXTERNAL_ID) ? null : "missing id";
+            }
+            if (window.get(i) != ',') {
+                return "expected ',' or '}'";
+            }
+            i = skipWhitespace(window, i + 1, end);
+        }
+        return "expected '}'";
+    }
+
+    private static int findStringEnd(MappedByteBuffer window, int start, int end) {
+        for (int i = start; i < end; i++) {
+            byte b = window.get(i);
+            if (b == '\\') {
+                i++;
+            } else if (b == '"') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean hasEscape(MappedByteBuffer window, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (window.get(i) == '\\') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int skipNested(MappedByteBuffer window, int start, int end) {
+        int depth = 0;
+        for (int i = start; i < end; i++) {
+            byte b = window.get(i);
+            if (b == '"') {
+                i = findStringEnd(window, i + 1, end);
+                if (i < 0) {
+                    return -1;
+                }
+            } else if (b == '{' || b == '[') {
+                depth++;
+            } else if ((b == '}' || b == ']') && --depth == 0) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(MappedByteBuffer window, int i, int end) {
+        while (i < end && isWhitespace(window.get(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+    }
+
+    private static long hash(MappedByteBuffer window, int start, int end) {
+        long hash = FNV_OFFSET;
+        for (int i = start; i < end; i++) {
+            hash ^= window.get(i) & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
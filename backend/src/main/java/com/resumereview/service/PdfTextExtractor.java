@@ -0,0 +1,140 @@
+package com.resumereview.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.contentstream.operator.Operator;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Extracts PDF text within fixed resource bounds: PDFBox buffers beyond a heap
+ * budget spill to scratch files, only the first max-pages pages are read, and
+ * extraction stops at the time limit. Hitting a bound returns the text of the
+ * pages finished so far instead of failing.
+ */
+@Component
+@Slf4j
+public class PdfTextExtractor implements TextExtractor {
+
+    /** Operators between deadline checks, so a single huge page cannot run unbounded */
+    private static final int DEADLINE_CHECK_INTERVAL = 256;
+
+    @Value("${app.resume.extraction.max-main-memory:16777216}")
+    private long maxMainMemory;
+
+    @Value("${app.resume.extraction.scratch-directory:}")
+    private String scratchDirectory;
+
+    @Value("${app.resume.extraction.max-pages:50}")
+    private int maxPages;
+
+    @Value("${app.resume.extraction.timeout:PT15S}")
+    private Duration timeout;
+
+    @Override
+    public DocumentType getDocumentType() {
+        return DocumentType.PDF;
+    }
+
+    /**
+     * Extract the text of a PDF, releasing the document and its scratch files whatever happens
+     */
+    @Override
+    public TextExtraction extract(File pdfFile, PageListener listener) throws IOException {
+        long startNanos = System.nanoTime();
+
+        MemoryUsageSetting memory = MemoryUsageSetting.setupMixed(maxMainMemory);
+        if (StringUtils.hasText(scratchDirectory)) {
+            memory.setTempDir(new File(scratchDirectory));
+        }
+
+        try (PDDocument document = Loader.loadPDF(pdfFile, memory.streamCache)) {
+            int pagesToProcess = Math.min(document.getNumberOfPages(), maxPages);
+            BoundedTextStripper stripper = new BoundedTextStripper(startNanos + timeout.toNanos(), pagesToProcess, listener);
+            stripper.setEndPage(maxPages);
+            StringWriter text = new StringWriter();
+            try {
+                stripper.writeText(document, text);
+            } catch (DeadlineExceededException e) {
+                // Keep what the finished pages already wrote
+            }
+
+            int totalPages = document.getNumberOfPages();
+            boolean truncated = stripper.deadlineExceeded || stripper.pagesProcessed < totalPages;
+            if (truncated) {
+                log.warn("Extraction of {} stopped after {} of {} pages ({})", pdfFile.getName(),
+                        stripper.pagesProcessed, totalPages, stripper.deadlineExceeded ? "time limit" : "page cap");
+            }
+            return new TextExtraction(text.toString(), stripper.pagesProcessed, totalPages, truncated,
+                    stripper.deadlineExceeded, -1, 0);
+        }
+    }
+
+    /**
+     * Counts and reports finished pages and aborts once the deadline passes, checked between pages and every few operators
+     */
+    private static final class BoundedTextStripper extends PDFTextStripper {
+        private final long deadlineNanos;
+        private final int pagesToProcess;
+        private final PageListener listener;
+        private int pagesProcessed;
+        private int operators;
+        private boolean deadlineExceeded;
+
+        BoundedTextStripper(long deadlineNanos, int pagesToProcess, PageListener listener) {
+            this.deadlineNanos = deadlineNanos;
+            this.pagesToProcess = pagesToProcess;
+            this.listener = listener;
+        }
+
+        @Override
+        public void processPage(PDPage page) throws IOException {
+            checkDeadline();
+            super.processPage(page);
+        }
+
+        @Override
+        protected void endPage(PDPage page) throws IOException {
+            // Only reached for pages inside the start/end range
+            super.endPage(page);
+            pagesProcessed++;
+            listener.pageExtracted(pagesProcessed, pagesToProcess);
+        }
+
+        @Override
+        protected void processOperator(Operator operator, List<COSBase> operands) throws IOException {
+            if (++operators % DEADLINE_CHECK_INTERVAL == 0) {
+                checkDeadline();
+            }
+            super.processOperator(operator, operands);
+        }
+
+        private void checkDeadline() {
+            if (System.nanoTime() - deadlineNanos > 0) {
+                deadlineExceeded = true;
+                throw new DeadlineExceededException();
+            }
+        }
+    }
+
+    /**
+     * Unchecked so PDFBox's per-operator IOException handling cannot swallow it
+     */
+    private static final class DeadlineExceededException extends RuntimeException {
+        DeadlineExceededException() {
+            super("PDF extraction time limit exceeded", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.resumereview.service;
+
+import com.resumereview.dto.ResumeAnalysisDTO;
+import com.resumereview.model.JobSuggestion;
+import com.resumereview.model.Resume;
+import com.resumereview.model.ResumeFeatures;
+import com.resumereview.model.ResumeStatus;
+import com.resumereview.model.ReviewScore;
+import com.resumereview.repository.JobSuggestionRepository;
+import com.resumereview.repository.ResumeRepository;
+import com.resumereview.repository.ReviewScoreRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Upload, review score and job suggestions in one call. The text is extracted
+ * once and its features computed in memory; scoring runs on the scoring pool
+ * while matching and the catalog lookup run on the request thread, and all
+ * rows are then written in a single transaction. Nothing is read back from
+ * the database that this call just wrote.
+ */
+@Service
+@Slf4j
+public class ResumeAnalysisService {
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private ResumeFeatureService resumeFeatureService;
+
+    @Autowired
+    private ReviewScoreService reviewScoreService;
+
+    @Autowired
+    private JobMatchingService jobMatchingService;
+
+    @Autowired
+    private JobSuggestionService jobSuggestionService;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private ReviewScoreRepository reviewScoreRepository;
+
+    @Autowired
+    private JobSuggestionRepository jobSuggestionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier("reviewScoringExecutor")
+    private ThreadPoolTaskExecutor scoringExecutor;
+
+    @Value("${app.job-matching.default-limit:10}")
+    private int defaultLimit;
+
+    /**
+     * Analyze a multipart upload, returning the best {@code limit} job suggestions (default if null)
+     */
+    public ResumeAnalysisDTO analyze(MultipartFile file, Integer limit) throws IOException {
+        resumeService.validateMultipart(file);
+        try (InputStream in = file.getInputStream()) {
+            return analyze(in, file.getOriginalFilename(), limit == null ? defaultLimit : limit);
+        }
+    }
+
+    /**
+     * Store, extract, then score and match concurrently and persist everything together.
+     * An unreadable document is kept as FAILED without a score or suggestions; if anything
+     * fails before the rows are committed, the upload's blob reference is given back.
+     */
+    public ResumeAnalysisDTO analyze(InputStream in, String fileName, int limit) throws IOException {
+        Resume resume = resumeService.writeUploadedFile(in, fileName);
+        TextExtraction extraction = null;
+        ReviewScore reviewScore = null;
+        List<JobSuggestion> suggestions = List.of();
+        try {
+            extraction = resumeService.extractTextOrNull(resume);
+            if (extraction == null) {
+                resume.setStatus(ResumeStatus.FAILED);
+                resumeRepository.save(resume);
+            } else {
+                resume.setStatus(ResumeStatus.EXTRACTED);
+                ResumeFeatures features = ResumeFeatureService.computeFeatures(extraction.getText());
+
+                // Scoring is pure computation on the features; the pool runs it on the caller when saturated
+                Thread caller = Thread.currentThread();
+                CompletableFuture<Timed<ReviewScore>> scoring = CompletableFuture.supplyAsync(() -> {
+                    long startNanos = System.nanoTime();
+                    ReviewScore score = reviewScoreService.scoreFeatures(fileName, features);
+                    // On the caller, scoreFeatures has already added its time to the request's timings
+                    return new Timed<>(score, Thread.currentThread() == caller ? 0 : System.nanoTime() - startNanos);
+                }, scoringExecutor);
+
+                long matchStartNanos = System.nanoTime();
+                List<JobIndex.Hit> hits = jobMatchingService.topMatches(features, limit);
+                StageTimings.record(StageTimings.MATCHING, System.nanoTime() - matchStartNanos);
+                List<JobSuggestion> built = jobSuggestionService.buildSuggestions(resume, hits);
+
+                Timed<ReviewScore> scored = join(scoring);
+                StageTimings.record(StageTimings.SCORING, scored.nanos());
+                ReviewScore score = scored.value();
+                score.setResume(resume);
+
+                // Keyed by content hash only, so it goes in first and on its own: see ResumeService.saveText
+                resumeService.saveText(resume, extraction);
+                transactionTemplate.executeWithoutResult(status -> {
+                    resumeRepository.save(resume);
+                    resumeFeatureService.saveFeatures(resume.getId(), features);
+                    reviewScoreRepository.save(score);
+                    jobSuggestionRepository.saveAll(built);
+                });
+                reviewScore = score;
+                suggestions = built;
+            }
+        } catch (RuntimeException e) {
+            resumeService.discardUpload(resume);
+            throw e;
+        }
+        log.info("Resume analyzed with ID: {} ({}, {} job suggestions)", resume.getId(), resume.getStatus(), suggestions.size());
+
+        return new ResumeAnalysisDTO(
+                resume.getId(),
+                resume.getFileName(),
+                resume.getFileSize(),
+                resume.getContentHash(),
+                resume.getStatus(),
+                extraction != null && extraction.isTruncated(),
+                reviewScore == null ? null : reviewScoreService.convertToDTO(reviewScore),
+                jobSuggestionService.convertListToDTO(suggestions));
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * A result with the time it took, carried back from the scoring pool
+     */
+    private record Timed<T>(T value, long nanos) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.resumereview.service;
+
+import com.resumereview.dto.ResumeEventDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Publishes resume progress on the application event bus, where
+ * {@link ResumeEventStreamService} forwards it to subscribed clients.
+ * Events raised inside a transaction are delivered once it commits.
+ */
+@Component
+public class ResumeEventPublisher {
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * A resume moved to a new status
+     */
+    public void statusChanged(Long resumeId, String status) {
+        ResumeEventDTO event = event(resumeId, ResumeEventDTO.STATUS);
+        event.setStatus(status);
+        applicationEventPublisher.publishEvent(event);
+    }
+
+    /**
+     * Another page of a resume's document was extracted
+     */
+    public void pageExtracted(Long resumeId, int pagesProcessed, int pagesToProcess) {
+        ResumeEventDTO event = event(resumeId, ResumeEventDTO.EXTRACTION);
+        event.setPagesProcessed(pagesProcessed);
+        event.setPagesToProcess(pagesToProcess);
+        applicationEventPublisher.publishEvent(event);
+    }
+
+    /**
+     * A resume's review score was saved
+     */
+    public void scored(Long resumeId, double overallScore) {
+        ResumeEventDTO event = event(resumeId, ResumeEventDTO.SCORE);
+        event.setOverallScore(overallScore);
+        applicationEventPublisher.publishEvent(event);
+    }
+
+    /**
+     * A resume's job suggestions were saved
+     */
+    public void suggestionsReady(Long resumeId, int suggestionCount) {
+        ResumeEventDTO event = event(resumeId, ResumeEventDTO.SUGGESTIONS);
+        event.setSuggestionCount(suggestionCount);
+        applicationEventPublisher.publishEvent(event);
+    }
+
+    private static ResumeEventDTO event(Long resumeId, String name) {
+        ResumeEventDTO event = new ResumeEventDTO();
+        event.setResumeId(resumeId);
+        event.setEvent(name);
+        event.setTimestamp(LocalDateTime.now());
+        return event;
+    }
+}
@@ -0,0 +1,282 @@
+package com.resumereview.service;
+
+import com.resumereview.dto.ResumeEventDTO;
+import com.resumereview.model.ResumeStatus;
+import com.resumereview.repository.ResumeRepository;
+import com.resumereview.repository.ResumeSummary;
+import com.resumereview.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-Sent Event streams of resume progress for GET /resumes/{id}/events.
+ * Streams are async responses, so a watcher holds a connection but no request
+ * thread. Each stream has its own bounded queue, drained in order by one of a
+ * small pool of sender threads. A client that stops reading holds one sender
+ * until the container's write timeout (server.tomcat.connection-timeout) and
+ * is dropped when its queue overflows, while the other senders keep the rest
+ * of the streams moving. A stream is completed once the last event it can
+ * expect has been sent.
+ */
+@Service
+@Slf4j
+public class ResumeEventStreamService {
+
+    /** Queue marker for a keep-alive comment */
+    private static final ResumeEventDTO KEEP_ALIVE = new ResumeEventDTO();
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.resume.events.timeout:PT5M}")
+    private Duration timeout;
+
+    @Value("${app.resume.events.heartbeat:PT20S}")
+    private Duration heartbeat;
+
+    @Value("${app.resume.events.queue-capacity:32}")
+    private int queueCapacity;
+
+    @Value("${app.resume.events.sender-threads:8}")
+    private int senderThreads;
+
+    @Value("${app.resume.processing.score-after-extraction:false}")
+    private boolean scoreAfterExtraction;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(
+            daemonThreads("resume-events-heartbeat"));
+    private ExecutorService senders;
+
+    @PostConstruct
+    void start() {
+        // Threads are started as streams need them and stopped again when idle
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(senderThreads, senderThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), daemonThreads("resume-events"));
+        pool.allowCoreThreadTimeOut(true);
+        senders = pool;
+        heartbeats.scheduleAtFixedRate(this::sendHeartbeats, heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+        Gauge.builder("resume.events.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open resume progress event streams")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        heartbeats.shutdownNow();
+        senders.shutdownNow();
+        subscribers.values().forEach(registered -> registered.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    /**
+     * Open a progress stream for a resume, starting with its current status
+     */
+    public SseEmitter subscribe(Long resumeId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(resumeId, emitter, queueCapacity);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        emitter.onTimeout(emitter::complete);
+        subscribers.compute(resumeId, (id, registered) -> {
+            Set<Subscriber> updated = registered != null ? registered : ConcurrentHashMap.newKeySet();
+            updated.add(subscriber);
+            return updated;
+        });
+        subscriberCount.incrementAndGet();
+
+        // Read after registering, so a transition racing the subscription is queued behind the snapshot, not lost
+        ResumeSummary summary = resumeRepository.findSummaryById(resumeId).orElse(null);
+        if (summary == null) {
+            unsubscribe(subscriber);
+            throw new ResourceNotFoundException("Resume not found with ID: " + resumeId);
+        }
+        ResumeEventDTO current = new ResumeEventDTO();
+        current.setResumeId(resumeId);
+        current.setEvent(ResumeEventDTO.STATUS);
+        current.setStatus(summary.getStatus());
+        current.setTimestamp(LocalDateTime.now());
+        subscriber.snapshot = current;
+        if (!subscriber.queue.offerFirst(current)) {
+            subscriber.closed = true;
+        }
+        // The subscriber was created in the draining state, so events queued so far wait for the snapshot
+        senders.execute(() -> drain(subscriber));
+        return emitter;
+    }
+
+    /**
+     * Queue a published event on the resume's streams, after the publishing transaction commits
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResumeEvent(ResumeEventDTO event) {
+        Set<Subscriber> registered = subscribers.get(event.getResumeId());
+        if (registered != null) {
+            registered.forEach(subscriber -> enqueue(subscriber, event));
+        }
+    }
+
+    /**
+     * Queue an event without blocking; a full queue means the client stopped reading, so it is dropped
+     */
+    private void enqueue(Subscriber subscriber, ResumeEventDTO event) {
+        if (!subscriber.queue.offer(event)) {
+            log.debug("Dropping event stream of resume ID {}: {} events unsent", subscriber.resumeId, queueCapacity);
+            // Completed by its sender, which may be blocked writing to this very client
+            subscriber.closed = true;
+            unsubscribe(subscriber);
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * Send a subscriber's queued events in order until the queue is empty or the stream ends
+     */
+    private void drain(Subscriber subscriber) {
+        do {
+            ResumeEventDTO event;
+            while ((event = subscriber.queue.poll()) != null) {
+                if (subscriber.closed) {
+                    subscriber.emitter.complete();
+                    return;
+                }
+                if (!send(subscriber, event)) {
+                    return;
+                }
+            }
+            if (subscriber.closed) {
+                subscriber.emitter.complete();
+                return;
+            }
+            subscriber.draining.set(false);
+            // An event queued after the last poll but before the flag was cleared would otherwise wait
+        } while (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    /**
+     * Write one event; returns false once the stream is finished, leaving the subscriber marked as draining
+     * so nothing else is scheduled for it
+     */
+    private boolean send(Subscriber subscriber, ResumeEventDTO event) {
+        try {
+            if (event == KEEP_ALIVE) {
+                subscriber.emitter.send(SseEmitter.event().comment("keep-alive"));
+                return true;
+            }
+            subscriber.emitter.send(SseEmitter.event().name(event.getEvent()).data(event, MediaType.APPLICATION_JSON));
+            if (isLast(event, event == subscriber.snapshot)) {
+                subscriber.closed = true;
+                unsubscribe(subscriber);
+                subscriber.emitter.complete();
+                return false;
+            }
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // The client went away or the stream already completed; the container closes it
+            subscriber.closed = true;
+            unsubscribe(subscriber);
+            return false;
+        }
+    }
+
+    /**
+     * Whether nothing more is expected after this event: job suggestions are the last step a client asks
+     * for, a failed resume goes no further, and background processing ends at EXTRACTED unless it goes
+     * on to score. An already extracted resume is left open on subscribing, for scoring and suggestions
+     * the client is about to request.
+     */
+    private boolean isLast(ResumeEventDTO event, boolean snapshot) {
+        if (ResumeStatus.FAILED.equals(event.getStatus())) {
+            return true;
+        }
+        if (snapshot) {
+            return false;
+        }
+        return ResumeEventDTO.SUGGESTIONS.equals(event.getEvent())
+                || (ResumeStatus.EXTRACTED.equals(event.getStatus()) && !scoreAfterExtraction)
+                || (ResumeEventDTO.SCORE.equals(event.getEvent()) && scoreAfterExtraction);
+    }
+
+    private void sendHeartbeats() {
+        try {
+            // Streams with events still queued are not idle
+            subscribers.values().forEach(registered -> registered.stream()
+                    .filter(subscriber -> subscriber.queue.isEmpty())
+                    .forEach(subscriber -> enqueue(subscriber, KEEP_ALIVE)));
+        } catch (RuntimeException e) {
+            // Caught broadly: an exception escaping a periodic task would cancel it
+            log.warn("Could not queue event stream keep-alives: {}", e.getMessage());
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.resumeId, (id, registered) -> {
+            if (registered.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return registered.isEmpty() ? null : registered;
+        });
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * One open stream and the events waiting to be written to it
+     */
+    private static final class Subscriber {
+        private final Long resumeId;
+        private final SseEmitter emitter;
+        private final BlockingDeque<ResumeEventDTO> queue;
+        /** Set while a sender owns the queue; starts set so nothing is sent before the status snapshot */
+        private final AtomicBoolean draining = new AtomicBoolean(true);
+        /** No further events are sent; the sender completes the emitter */
+        private volatile boolean closed;
+        /** The status read on subscribing, queued ahead of any live event */
+        private ResumeEventDTO snapshot;
+
+        Subscriber(Long resumeId, SseEmitter emitter, int capacity) {
+            this.resumeId = resumeId;
+            this.emitter = emitter;
+            this.queue = new LinkedBlockingDeque<>(capacity);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.resumereview.service;
+
+import com.resumereview.exception.ResourceNotFoundException;
+import com.resumereview.model.ResumeFeatures;
+import com.resumereview.model.ResumeSection;
+import com.resumereview.model.ResumeText;
+import com.resumereview.repository.ResumeFeaturesRepository;
+import com.resumereview.repository.ResumeRepository;
+import com.resumereview.repository.ResumeSummary;
+import com.resumereview.repository.ResumeTextRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+@Slf4j
+public class ResumeFeatureService {
+
+    @Autowired
+    private ResumeFeaturesRepository resumeFeaturesRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private ResumeTextRepository resumeTextRepository;
+
+    /**
+     * Compute and persist the feature record for a freshly extracted resume
+     */
+    public ResumeFeatures saveFeatures(Long resumeId, String extractedText) {
+        return saveFeatures(resumeId, computeFeatures(extractedText));
+    }
+
+    /**
+     * Persist an already computed feature record for a resume
+     */
+    public ResumeFeatures saveFeatures(Long resumeId, ResumeFeatures features) {
+        features.setResumeId(resumeId);
+
+        // Re-extraction replaces the previous record
+        resumeFeaturesRepository.findByResumeId(resumeId)
+                .ifPresent(existing -> features.setId(existing.getId()));
+
+        ResumeFeatures saved = resumeFeaturesRepository.save(features);
+        log.debug("Stored features for resume ID: {} ({} tokens)", resumeId, saved.getTokenCount());
+        return saved;
+    }
+
+    /**
+     * Get the feature record for a resume, backfilling it from the text for
+     * resumes extracted before feature records existed or before the last
+     * vocabulary change
+     */
+    public ResumeFeatures getFeatures(Long resumeId) {
+        Optional<ResumeFeatures> stored = resumeFeaturesRepository.findByResumeId(resumeId);
+        if (stored.isPresent() && Integer.valueOf(FeatureVocabulary.VERSION).equals(stored.get().getVocabularyVersion())) {
+            return stored.get();
+        }
+
+        ResumeSummary resume = resumeRepository.findSummaryById(resumeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Resume not found with ID: " + resumeId));
+        String text = resume.getContentHash() == null ? null : resumeTextRepository.findById(resume.getContentHash())
+                .map(ResumeText::getExtractedText)
+                .orElse(null);
+        log.info("Backfilling features for resume ID: {}", resumeId);
+        return saveFeatures(resumeId, text);
+    }
+
+    /**
+     * Get feature records for many resumes with one query, backfilling missing or stale ones
+     */
+    public Map<Long, ResumeFeatures> getFeatures(Collection<Long> resumeIds) {
+        Map<Long, ResumeFeatures> features = new HashMap<>();
+        for (ResumeFeatures stored : resumeFeaturesRepository.findByResumeIdIn(resumeIds)) {
+            if (Integer.valueOf(FeatureVocabulary.VERSION).equals(stored.getVocabularyVersion())) {
+                features.put(stored.getResumeId(), stored);
+            }
+        }
+        for (Long resumeId : resumeIds) {
+            if (!features.containsKey(resumeId)) {
+                features.put(resumeId, getFeatures(resumeId));
+            }
+        }
+        return features;
+    }
+
+    /**
+     * Derive token count, section flags, vocabulary term frequencies and contact flags
+     */
+    public static ResumeFeatures computeFeatures(String text) {
+        KeywordMatcher.Matches matches = FeatureVocabulary.MATCHER.scan(text);
+        ContactInfoDetector.ContactInfo contactInfo = ContactInfoDetector.detect(text);
+        Map<String, Integer> termFrequencies = termFrequencies(matches);
+
+        int sectionFlags = 0;
+        for (ResumeSection section : ResumeSection.values()) {
+            if (matches.containsAny(section.getTerms().toArray(new String[0]))) {
+                sectionFlags |= section.flag();
+            }
+        }
+
+        ResumeFeatures features = new ResumeFeatures();
+        features.setTokenCount(countTokens(text));
+        features.setTextLength(matches.length());
+        features.setSectionFlags(sectionFlags);
+        features.setTermFrequencies(termFrequencies);
+        features.setHasPhone(contactInfo.hasPhone());
+        features.setHasEmail(contactInfo.hasEmail());
+        features.setHasUrl(contactInfo.hasUrl());
+        features.setVocabularyVersion(FeatureVocabulary.VERSION);
+        features.setCreatedAt(LocalDateTime.now());
+        return features;
+    }
+
+    /**
+     * Delete the feature record of a resume
+     */
+    public void deleteFeatures(Long resumeId) {
+        resumeFeaturesRepository.deleteByResumeId(resumeId);
+    }
+
+    /**
+     * Non-zero vocabulary term counts of a scanned text
+     */
+    public static Map<String, Integer> termFrequencies(KeywordMatcher.Matches matches) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        for (String term : FeatureVocabulary.MATCHER.getKeywords()) {
+            int count = matches.count(term);
+            if (count > 0) {
+                termFrequencies.put(term, count);
+            }
+        }
+        return termFrequencies;
+    }
+
+    /**
+     * Number of whitespace-separated tokens
+     */
+    public static int countTokens(String text) {
+        if (text == null) {
+            return 0;
+        }
+        int tokens = 0;
+        boolean inToken = false;
+        for (int i = 0; i < text.length(); i++) {
+            boolean whitespace = Character.isWhitespace(text.charAt(i));
+            if (!whitespace && !inToken) {
+                tokens++;
+            }
+            inToken = !whitespace;
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,160 @@
+package com.resumereview.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer meters for the upload, extraction, scoring and suggestion stages,
+ * scraped at /actuator/prometheus. Meters with fixed tags are registered once,
+ * so a hot path only pays for two clock reads and a histogram bucket increment.
+ * Extraction tags bucket the page count and file size to keep cardinality bounded.
+ * Each stage is also added to the current request's {@link StageTimings}.
+ */
+@Component
+public class ResumeMetrics {
+
+    /** Scoring functions timed under {@code resume.scoring} */
+    public enum ScoringFunction { FORMAT, CONTENT, KEYWORD, SUGGESTIONS, FEEDBACK }
+
+    private static final long KB = 1024;
+
+    private final MeterRegistry registry;
+    private final Timer multipartReceive;
+    private final Timer streamRead;
+    private final Timer diskWrite;
+    private final Map<ScoringFunction, Timer> scoring = new EnumMap<>(ScoringFunction.class);
+    private final Timer suggestionsGenerate;
+    private final DistributionSummary extractionAllocated;
+    private final AtomicInteger activeExtractions = new AtomicInteger();
+
+    public ResumeMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.multipartReceive = timer("resume.upload.receive", "Time to receive an upload body", Duration.ofSeconds(30))
+                .tag("phase", "multipart").register(registry);
+        this.streamRead = timer("resume.upload.receive", "Time to receive an upload body", Duration.ofSeconds(30))
+                .tag("phase", "read").register(registry);
+        this.diskWrite = timer("resume.upload.write", "Time to write an upload to storage", Duration.ofSeconds(10))
+                .register(registry);
+        for (ScoringFunction function : ScoringFunction.values()) {
+            scoring.put(function, timer("resume.scoring", "Time spent in one review scoring function", Duration.ofMillis(100))
+                    .tag("function", function.name().toLowerCase(Locale.ROOT))
+                    .register(registry));
+        }
+        this.suggestionsGenerate = timer("resume.suggestions.generate", "Time to generate job suggestions for a resume",
+                Duration.ofSeconds(5)).register(registry);
+        this.extractionAllocated = DistributionSummary.builder("resume.extraction.allocated")
+                .description("Heap allocated by one text extraction")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("resume.extraction.active", activeExtractions, AtomicInteger::get)
+                .description("Text extractions currently running")
+                .register(registry);
+    }
+
+    /**
+     * Record the time the container took to read and parse a multipart upload
+     */
+    public void recordMultipartReceive(long nanos) {
+        multipartReceive.record(nanos, TimeUnit.NANOSECONDS);
+        StageTimings.record(StageTimings.RECEIVE, nanos);
+    }
+
+    /**
+     * Record the time spent blocked reading an upload stream, and writing it to disk
+     */
+    public void recordStore(long readNanos, long writeNanos) {
+        streamRead.record(readNanos, TimeUnit.NANOSECONDS);
+        diskWrite.record(writeNanos, TimeUnit.NANOSECONDS);
+        StageTimings.record(StageTimings.RECEIVE, readNanos);
+        StageTimings.record(StageTimings.STORAGE, writeNanos);
+    }
+
+    /**
+     * Run one scoring function under its timer
+     */
+    public <T> T timeScoring(ScoringFunction function, Supplier<T> work) {
+        long startNanos = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            long nanos = System.nanoTime() - startNanos;
+            scoring.get(function).record(nanos, TimeUnit.NANOSECONDS);
+            StageTimings.record(StageTimings.SCORING, nanos);
+        }
+    }
+
+    /**
+     * Record one job suggestion generation against the catalog index
+     */
+    public void recordSuggestions(long nanos) {
+        suggestionsGenerate.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Mark an extraction as running; pair with {@link #recordExtraction}
+     */
+    public void extractionStarted() {
+        activeExtractions.incrementAndGet();
+    }
+
+    /**
+     * Mark an extraction as finished and record it; {@code extraction} is null when it failed
+     */
+    public void recordExtraction(DocumentType type, long fileBytes, TextExtraction extraction, long nanos) {
+        activeExtractions.decrementAndGet();
+        String outcome = extraction == null ? "error" : extraction.isTruncated() ? "truncated" : "success";
+        Tags tags = Tags.of(
+                "type", type.name().toLowerCase(Locale.ROOT),
+                "outcome", outcome,
+                "pages", extraction == null ? "unknown" : pagesBucket(extraction.getPagesProcessed()),
+                "size", sizeBucket(fileBytes));
+        timer("resume.extraction", "Time to extract the text of an uploaded document", Duration.ofSeconds(30))
+                .tags(tags)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        StageTimings.record(StageTimings.EXTRACTION, nanos);
+        if (extraction != null && extraction.getBytesAllocated() >= 0) {
+            extractionAllocated.record(extraction.getBytesAllocated());
+        }
+    }
+
+    private static Timer.Builder timer(String name, String description, Duration maximum) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(1000))
+                .maximumExpectedValue(maximum);
+    }
+
+    /**
+     * Coarse page-count bucket; DOCX extraction has no pages and reports 0
+     */
+    static String pagesBucket(int pages) {
+        if (pages <= 1) {
+            return pages <= 0 ? "none" : "1";
+        }
+        if (pages <= 5) {
+            return "2-5";
+        }
+        return pages <= 20 ? "6-20" : "21+";
+    }
+
+    static String sizeBucket(long bytes) {
+        if (bytes < 100 * KB) {
+            return "<100KB";
+        }
+        return bytes < 1024 * KB ? "100KB-1MB" : "1MB+";
+    }
+}
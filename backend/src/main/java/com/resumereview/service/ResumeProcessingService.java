@@ -0,0 +1,119 @@
+package com.resumereview.service;
+
+import com.resumereview.exception.ProcessingCapacityExceededException;
+import com.resumereview.model.Resume;
+import com.resumereview.model.ResumeStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Service
+@Slf4j
+public class ResumeProcessingService {
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private ReviewScoreService reviewScoreService;
+
+    @Autowired
+    private ResumeFeatureService resumeFeatureService;
+
+    @Autowired
+    @Qualifier("resumeProcessingExecutor")
+    private ThreadPoolTaskExecutor executor;
+
+    @Value("${app.resume.processing.score-after-extraction:false}")
+    private boolean scoreAfterExtraction;
+
+    @Value("${app.resume.processing.retry-after-seconds:30}")
+    private long retryAfterSeconds;
+
+    /**
+     * Store an upload and queue its extraction on the background pool
+     */
+    public Resume acceptUpload(MultipartFile file) throws IOException {
+        ensureCapacity();
+        return enqueue(resumeService.storeResume(file));
+    }
+
+    /**
+     * Store a raw upload stream and queue its extraction on the background pool
+     */
+    public Resume acceptUpload(InputStream in, String fileName) throws IOException {
+        ensureCapacity();
+        return enqueue(resumeService.storeResume(in, fileName));
+    }
+
+    /**
+     * Shed load before touching the disk when the pool is already saturated
+     */
+    private void ensureCapacity() {
+        if (!hasCapacity()) {
+            throw new ProcessingCapacityExceededException("Resume processing queue is full", retryAfterSeconds);
+        }
+    }
+
+    private Resume enqueue(Resume resume) {
+        Long resumeId = resume.getId();
+
+        try {
+            executor.execute(() -> process(resumeId));
+        } catch (TaskRejectedException e) {
+            log.warn("Processing queue full, discarding upload for resume ID: {}", resumeId);
+            resumeService.deleteResume(resumeId);
+            throw new ProcessingCapacityExceededException("Resume processing queue is full", retryAfterSeconds, e);
+        }
+
+        log.info("Resume ID: {} queued for background processing", resumeId);
+        return resume;
+    }
+
+    /**
+     * Move a resume through EXTRACTING to EXTRACTED or FAILED
+     */
+    void process(Long resumeId) {
+        try {
+            Resume resume = resumeService.updateResumeStatus(resumeId, ResumeStatus.EXTRACTING);
+
+            TextExtraction extraction = resumeService.extractText(resume);
+            resumeService.saveText(resume, extraction);
+            resumeFeatureService.saveFeatures(resumeId, extraction.getText());
+            resumeService.updateResumeStatus(resume, ResumeStatus.EXTRACTED);
+            log.info("Background extraction finished for resume ID: {}", resumeId);
+
+            if (scoreAfterExtraction) {
+                reviewScoreService.generateReviewScore(resumeId);
+            }
+        } catch (Exception e) {
+            log.error("Background processing failed for resume ID {}: {}", resumeId, e.getMessage());
+            markFailed(resumeId);
+        }
+    }
+
+    private void markFailed(Long resumeId) {
+        try {
+            resumeService.updateResumeStatus(resumeId, ResumeStatus.FAILED);
+        } catch (Exception e) {
+            log.error("Could not mark resume ID {} as failed: {}", resumeId, e.getMessage());
+        }
+    }
+
+    /**
+     * Whether another task can be accepted without being rejected
+     */
+    public boolean hasCapacity() {
+        ThreadPoolExecutor pool = executor.getThreadPoolExecutor();
+        return pool.getQueue().remainingCapacity() > 0 || pool.getActiveCount() < pool.getMaximumPoolSize();
+    }
+}
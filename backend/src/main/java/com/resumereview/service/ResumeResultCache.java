@@ -0,0 +1,113 @@
+package com.resumereview.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.resumereview.dto.CacheStatsDTO;
+import com.resumereview.dto.JobSuggestionDTO;
+import com.resumereview.dto.ReviewScoreDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Size- and TTL-bounded caches of the per-resume review score and active job
+ * suggestions, in DTO form. Writers invalidate by resume id; inside a
+ * transaction the entry is dropped again after commit so a concurrent reader
+ * cannot re-cache the pre-commit state. Misses are loaded on the calling thread
+ * outside the map's bin lock, so a virtual thread blocked on JDBC in a loader
+ * does not pin its carrier; concurrent readers of the same key wait on the
+ * in-flight load instead.
+ */
+@Component
+public class ResumeResultCache {
+
+    private final AsyncCache<Long, ReviewScoreDTO> reviewScores;
+    private final AsyncCache<Long, List<JobSuggestionDTO>> jobSuggestions;
+
+    public ResumeResultCache(@Value("${app.cache.max-size:10000}") long maxSize,
+                             @Value("${app.cache.ttl:PT10M}") Duration ttl) {
+        this.reviewScores = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().buildAsync();
+        this.jobSuggestions = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().buildAsync();
+    }
+
+    public ReviewScoreDTO getReviewScore(Long resumeId, Function<Long, ReviewScoreDTO> loader) {
+        return get(reviewScores, resumeId, loader);
+    }
+
+    public List<JobSuggestionDTO> getJobSuggestions(Long resumeId, Function<Long, List<JobSuggestionDTO>> loader) {
+        return get(jobSuggestions, resumeId, loader);
+    }
+
+    public void invalidateReviewScore(Long resumeId) {
+        invalidate(reviewScores, resumeId);
+    }
+
+    public void invalidateJobSuggestions(Long resumeId) {
+        invalidate(jobSuggestions, resumeId);
+    }
+
+    public void invalidateResume(Long resumeId) {
+        invalidateReviewScore(resumeId);
+        invalidateJobSuggestions(resumeId);
+    }
+
+    public List<CacheStatsDTO> getStats() {
+        return List.of(toStats("reviewScores", reviewScores.synchronous()),
+                toStats("jobSuggestions", jobSuggestions.synchronous()));
+    }
+
+    /**
+     * Install a pending future under the map lock, then run the loader on this thread
+     * if that future won; a failed load is removed from the cache and rethrown as is
+     */
+    private static <V> V get(AsyncCache<Long, V> cache, Long resumeId, Function<Long, V> loader) {
+        CompletableFuture<V> pending = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(resumeId, (id, executor) -> pending);
+        if (future == pending) {
+            try {
+                V value = loader.apply(resumeId);
+                pending.complete(value);
+                return value;
+            } catch (RuntimeException | Error e) {
+                pending.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static void invalidate(AsyncCache<Long, ?> asyncCache, Long resumeId) {
+        Cache<Long, ?> cache = asyncCache.synchronous();
+        cache.invalidate(resumeId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(resumeId);
+                }
+            });
+        }
+    }
+
+    private static CacheStatsDTO toStats(String name, Cache<Long, ?> cache) {
+        CacheStats stats = cache.stats();
+        return new CacheStatsDTO(name, cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                stats.hitRate(), stats.evictionCount());
+    }
+}
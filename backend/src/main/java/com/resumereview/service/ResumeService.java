@@ -1,31 +1,76 @@
 package com.resumereview.service;
 
+import com.resumereview.dto.KeysetPage;
+import com.resumereview.dto.ResumeListItem;
+import com.resumereview.model.CompressedTextConverter;
 import com.resumereview.model.Resume;
+import com.resumereview.model.ResumeStatus;
+import com.resumereview.model.ResumeText;
 import com.resumereview.repository.ResumeRepository;
+import com.resumereview.repository.ResumeSummary;
+import com.resumereview.repository.ResumeTextRepository;
+import com.resumereview.repository.ReviewScoreRepository;
 import com.resumereview.exception.ResourceNotFoundException;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.UUID;
+import java.util.Optional;
 
 @Service
 @Slf4j
 public class ResumeService {
 
+    private static final String INSERT_TEXT_SQL =
+            "INSERT INTO resume_texts (content_hash, extracted_text, truncated, timed_out, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String REPLACE_TIMED_OUT_TEXT_SQL =
+            "UPDATE resume_texts SET extracted_text = ?, truncated = ?, timed_out = false WHERE content_hash = ? AND timed_out = true";
+
     @Autowired
     private ResumeRepository resumeRepository;
 
-    @Value("${app.file-upload.directory}")
-    private String uploadDirectory;
+    @Autowired
+    private ResumeTextRepository resumeTextRepository;
+
+    @Autowired
+    private ReviewScoreRepository reviewScoreRepository;
+
+    @Autowired
+    private ResumeResultCache resumeResultCache;
+
+    @Autowired
+    private ResumeStorageService resumeStorageService;
+
+    @Autowired
+    private ResumeFeatureService resumeFeatureService;
+
+    @Autowired
+    private TextExtractorRegistry textExtractorRegistry;
+
+    @Autowired
+    private ResumeEventPublisher resumeEventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
 
     @Value("${app.resume.max-file-size}")
     private Long maxFileSize;
@@ -34,9 +79,73 @@ public class ResumeService {
      * Upload a resume file and extract text
      */
     public Resume uploadResume(MultipartFile file) throws IOException {
-        log.info("Starting resume upload for file: {}", file.getOriginalFilename());
+        validateMultipart(file);
+        try (InputStream in = file.getInputStream()) {
+            return uploadResume(in, file.getOriginalFilename());
+        }
+    }
+
+    /**
+     * Upload a resume from a raw stream and extract text
+     */
+    public Resume uploadResume(InputStream in, String fileName) throws IOException {
+        Resume resume = writeUploadedFile(in, fileName);
+
+        // Extract text, or reuse it from an identical upload; an unreadable file is kept as FAILED
+        TextExtraction extraction = extractTextOrNull(resume);
+        resume.setStatus(extraction != null ? ResumeStatus.EXTRACTED : ResumeStatus.FAILED);
 
-        // Validate file
+        Resume savedResume = saveOrDiscard(resume);
+        if (extraction != null) {
+            saveText(savedResume, extraction);
+            resumeFeatureService.saveFeatures(savedResume.getId(), extraction.getText());
+        }
+        log.info("Resume saved with ID: {} ({})", savedResume.getId(), savedResume.getStatus());
+
+        return savedResume;
+    }
+
+    /**
+     * Validate and persist an uploaded file without extracting its text
+     */
+    public Resume storeResume(MultipartFile file) throws IOException {
+        validateMultipart(file);
+        try (InputStream in = file.getInputStream()) {
+            return storeResume(in, file.getOriginalFilename());
+        }
+    }
+
+    /**
+     * Persist a raw upload stream without extracting its text
+     */
+    public Resume storeResume(InputStream in, String fileName) throws IOException {
+        return saveOrDiscard(writeUploadedFile(in, fileName));
+    }
+
+    private Resume saveOrDiscard(Resume resume) {
+        try {
+            return resumeRepository.save(resume);
+        } catch (RuntimeException e) {
+            discardUpload(resume);
+            throw e;
+        }
+    }
+
+    /**
+     * Give back the blob reference of an upload whose resume row was never saved
+     */
+    void discardUpload(Resume resume) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> releaseFile(resume));
+        } catch (RuntimeException e) {
+            log.error("Could not release blob {} of discarded upload: {}", resume.getContentHash(), e.getMessage());
+        }
+    }
+
+    /**
+     * Reject empty or oversized multipart uploads before reading them
+     */
+    void validateMultipart(MultipartFile file) {
         if (file.isEmpty()) {
             throw new IllegalArgumentException("File cannot be empty");
         }
@@ -44,56 +153,119 @@ public class ResumeService {
         if (file.getSize() > maxFileSize) {
             throw new IllegalArgumentException("File size exceeds maximum allowed size");
         }
+    }
 
-        // Create uploads directory if it doesn't exist
-        File uploadsDir = new File(uploadDirectory);
-        if (!uploadsDir.exists()) {
-            uploadsDir.mkdirs();
-        }
-
-        // Generate unique filename
-        String uniqueFileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
-        File destinationFile = new File(uploadsDir, uniqueFileName);
-
-        // Save file
-        file.transferTo(destinationFile);
-        log.info("File saved successfully to: {}", destinationFile.getAbsolutePath());
+    /**
+     * Stream an upload to disk and build its (unsaved) entity
+     */
+    Resume writeUploadedFile(InputStream in, String fileName) throws IOException {
+        log.info("Starting resume upload for file: {}", fileName);
 
-        // Extract text from PDF
-        String extractedText = extractTextFromPdf(destinationFile);
+        StoredFile storedFile = resumeStorageService.store(in, fileName);
 
-        // Create and save resume entity
+        // Create resume entity
         Resume resume = new Resume();
-        resume.setFileName(file.getOriginalFilename());
-        resume.setFilePath(destinationFile.getAbsolutePath());
-        resume.setFileSize(file.getSize());
-        resume.setExtractedText(extractedText);
+        resume.setFileName(fileName);
+        resume.setFilePath(storedFile.getPath().toString());
+        resume.setFileSize(storedFile.getSize());
+        resume.setContentHash(storedFile.getSha256());
+        resume.setContentType(storedFile.getDocumentType().getContentType());
         resume.setUploadedAt(LocalDateTime.now());
         resume.setUpdatedAt(LocalDateTime.now());
-        resume.setStatus("UPLOADED");
+        resume.setStatus(ResumeStatus.UPLOADED);
 
-        Resume savedResume = resumeRepository.save(resume);
-        log.info("Resume saved with ID: {}", savedResume.getId());
-
-        return savedResume;
+        return resume;
     }
 
     /**
-     * Extract text from PDF file
+     * Extract text from the uploaded document, or null if it cannot be read
      */
-    private String extractTextFromPdf(File pdfFile) {
+    TextExtraction extractTextOrNull(Resume resume) {
         try {
-            PDDocument document = PDDocument.load(pdfFile);
-            PDFTextStripper stripper = new PDFTextStripper();
-            String text = stripper.getText(document);
-            document.close();
-            return text;
+            return extractText(resume);
         } catch (IOException e) {
-            log.error("Error extracting text from PDF: {}", e.getMessage());
-            return "";
+            log.error("Error extracting text from {}: {}", resume.getFileName(), e.getMessage());
+            return null;
         }
     }
 
+    /**
+     * Extract text for a resume, reusing the stored text of an already extracted
+     * upload with the same content hash instead of parsing the document again.
+     * Text an earlier attempt cut short at the time limit is extracted again.
+     */
+    public TextExtraction extractText(Resume resume) throws IOException {
+        if (resume.getContentHash() != null) {
+            Optional<ResumeText> stored = resumeTextRepository.findById(resume.getContentHash());
+            if (stored.isPresent() && !Boolean.TRUE.equals(stored.get().getTimedOut())) {
+                log.info("Reusing extracted text stored for content hash {}", resume.getContentHash());
+                return new TextExtraction(stored.get().getExtractedText(), 0, 0,
+                        Boolean.TRUE.equals(stored.get().getTruncated()), false, -1, 0);
+            }
+            if (stored.isPresent()) {
+                log.info("Stored text for content hash {} hit the time limit; extracting again", resume.getContentHash());
+            }
+        }
+        DocumentType type = DocumentType.fromContentType(resume.getContentType())
+                .or(() -> DocumentType.fromFileName(resume.getFileName()))
+                .orElseThrow(() -> new IOException("Unsupported document type: " + resume.getContentType()));
+        // Page progress is only of interest to watchers of a stored resume
+        TextExtractor.PageListener listener = resume.getId() == null ? TextExtractor.PageListener.NONE
+                : (pagesProcessed, pagesToProcess) -> resumeEventPublisher.pageExtracted(resume.getId(), pagesProcessed, pagesToProcess);
+        return textExtractorRegistry.extract(new File(resume.getFilePath()), type, listener);
+    }
+
+    /**
+     * Store successfully extracted text under the resume's content hash, once per distinct file;
+     * a complete extraction replaces text stored by an attempt that hit the time limit.
+     * Concurrent uploads of the same bytes race to insert the same key; the loser finds the
+     * row already stored. The writes run in their own transaction, on the connection the
+     * request already holds, so call it outside any other transaction: a lost race aborts
+     * the surrounding transaction on PostgreSQL.
+     */
+    public void saveText(Resume resume, TextExtraction extraction) {
+        String hash = resume.getContentHash();
+        if (hash == null || resumeTextRepository.existsCompleteText(hash)) {
+            return;
+        }
+        byte[] compressed = CompressedTextConverter.compress(extraction.getText());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!extraction.isTimedOut()
+                        && jdbcTemplate.update(REPLACE_TIMED_OUT_TEXT_SQL, compressed, extraction.isTruncated(), hash) > 0) {
+                    log.info("Replaced time-limited text for content hash {}", hash);
+                    return;
+                }
+                if (!resumeTextRepository.existsById(hash)) {
+                    jdbcTemplate.update(INSERT_TEXT_SQL, hash, compressed, extraction.isTruncated(),
+                            extraction.isTimedOut(), Timestamp.valueOf(LocalDateTime.now()));
+                }
+            });
+        } catch (DuplicateKeyException e) {
+            log.debug("Text for content hash {} was stored concurrently", resume.getContentHash());
+        }
+    }
+
+    /**
+     * Load the extracted text of a resume; the only read path that touches the text table
+     */
+    public String getExtractedText(Long id) {
+        return getExtractedText(getResumeSummary(id));
+    }
+
+    /**
+     * Load the extracted text of an already looked-up resume
+     */
+    public String getExtractedText(ResumeSummary resume) {
+        Long id = resume.getId();
+        if (resume.getContentHash() == null) {
+            throw new ResourceNotFoundException("No extracted text for resume ID: " + id);
+        }
+        return resumeTextRepository.findById(resume.getContentHash())
+                .map(ResumeText::getExtractedText)
+                .orElseThrow(() -> new ResourceNotFoundException("No extracted text for resume ID: " + id));
+    }
+
     /**
      * Get resume by ID
      */
@@ -103,44 +275,89 @@ public class ResumeService {
     }
 
     /**
-     * Get all resumes
+     * Get one keyset page of resumes, newest first, as list projections without the text
      */
-    public List<Resume> getAllResumes() {
-        return resumeRepository.findAll();
+    public KeysetPage<ResumeListItem> getResumePage(String status, LocalDateTime uploadedFrom, LocalDateTime uploadedTo,
+                                                    String cursor, int limit) {
+        KeysetPage.checkLimit(limit);
+        long beforeId = cursor != null && !cursor.isBlank() ? KeysetCursors.parseId(cursor) : Long.MAX_VALUE;
+
+        List<ResumeListItem> rows = resumeRepository.findPage(beforeId, status,
+                uploadedFrom != null ? uploadedFrom : KeysetCursors.MIN_TIME,
+                uploadedTo != null ? uploadedTo : KeysetCursors.MAX_TIME,
+                PageRequest.of(0, limit + 1));
+        return KeysetPage.of(rows, limit, last -> String.valueOf(last.getId()));
     }
 
     /**
      * Delete resume
      */
+    @Transactional
     public void deleteResume(Long id) {
         Resume resume = getResumeById(id);
         
-        // Delete file from disk
-        File file = new File(resume.getFilePath());
-        if (file.exists()) {
-            file.delete();
-        }
+        releaseFile(resume);
 
         // Delete from database
+        reviewScoreRepository.deleteByResumeId(id);
+        resumeFeatureService.deleteFeatures(id);
         resumeRepository.deleteById(id);
+        resumeResultCache.invalidateResume(id);
         log.info("Resume deleted with ID: {}", id);
     }
 
+    /**
+     * Drop the resume's reference to its stored file within the current transaction; the
+     * last reference takes the file and the shared text with it. Files of uploads from
+     * before content hashing are not shared and go once the row is committed as deleted.
+     */
+    private void releaseFile(Resume resume) {
+        String contentHash = resume.getContentHash();
+        String filePath = resume.getFilePath();
+        if (contentHash == null) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    resumeStorageService.delete(filePath);
+                }
+            });
+        } else if (resumeStorageService.release(contentHash, filePath)) {
+            resumeTextRepository.findById(contentHash).ifPresent(resumeTextRepository::delete);
+        }
+    }
+
+    /**
+     * Get the narrow row of a resume (no text), e.g. for status and version checks
+     */
+    public ResumeSummary getResumeSummary(Long id) {
+        return resumeRepository.findSummaryById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Resume not found with ID: " + id));
+    }
+
     /**
      * Get resume status
      */
     public String getResumeStatus(Long id) {
-        Resume resume = getResumeById(id);
-        return resume.getStatus();
+        return resumeRepository.findSummaryById(id)
+                .map(ResumeSummary::getStatus)
+                .orElseThrow(() -> new ResourceNotFoundException("Resume not found with ID: " + id));
     }
 
     /**
      * Update resume status
      */
     public Resume updateResumeStatus(Long id, String status) {
-        Resume resume = getResumeById(id);
+        return updateResumeStatus(getResumeById(id), status);
+    }
+
+    /**
+     * Update status of an already loaded resume
+     */
+    public Resume updateResumeStatus(Resume resume, String status) {
         resume.setStatus(status);
         resume.setUpdatedAt(LocalDateTime.now());
-        return resumeRepository.save(resume);
+        Resume saved = resumeRepository.save(resume);
+        resumeEventPublisher.statusChanged(saved.getId(), status);
+        return saved;
     }
 }
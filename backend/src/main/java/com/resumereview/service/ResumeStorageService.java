@@ -0,0 +1,261 @@
+package com.resumereview.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+@Service
+@Slf4j
+public class ResumeStorageService {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private static final String INCREMENT_SQL =
+            "UPDATE resume_blobs SET reference_count = reference_count + 1 WHERE content_hash = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO resume_blobs (content_hash, reference_count, created_at) VALUES (?, 1, ?)";
+
+    private static final String DECREMENT_SQL =
+            "UPDATE resume_blobs SET reference_count = reference_count - 1 WHERE content_hash = ?";
+
+    private static final String COUNT_SQL = "SELECT reference_count FROM resume_blobs WHERE content_hash = ?";
+
+    private static final String DELETE_SQL = "DELETE FROM resume_blobs WHERE content_hash = ?";
+
+    private static final int WRITE_ATTEMPTS = 3;
+
+    @Autowired
+    private ResumeMetrics resumeMetrics;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.file-upload.directory}")
+    private String uploadDirectory;
+
+    @Value("${app.file-upload.allowed-extensions}")
+    private List<String> allowedExtensions;
+
+    @Value("${app.resume.max-file-size}")
+    private Long maxFileSize;
+
+    /**
+     * Stream an upload to disk in a single pass. The first chunk is sniffed for
+     * magic bytes before anything is written; the SHA-256 digest and byte count
+     * are computed while the data goes out through a FileChannel. The blob is
+     * named after its digest, so re-uploads of the same bytes share one file; the
+     * returned file holds a reference to it that a resume row or {@link #release} takes over.
+     * Time blocked on the input and time spent writing are recorded separately.
+     */
+    public StoredFile store(InputStream in, String originalFileName) throws IOException {
+        byte[] buffer = new byte[CHUNK_SIZE];
+        long readStart = System.nanoTime();
+        int headLength = readHead(in, buffer);
+        long readNanos = System.nanoTime() - readStart;
+        if (headLength == 0) {
+            throw new IllegalArgumentException("File cannot be empty");
+        }
+
+        DocumentType documentType = validateType(originalFileName, buffer, headLength);
+        MessageDigest digest = newSha256();
+
+        Path directory = Paths.get(uploadDirectory).toAbsolutePath();
+        Files.createDirectories(directory);
+        Path partFile = directory.resolve(UUID.randomUUID() + ".part");
+
+        long size = 0;
+        long headReadNanos = readNanos;
+        long writeStart = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(partFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            int length = headLength;
+            while (length != -1) {
+                size += length;
+                if (size > maxFileSize) {
+                    throw new IllegalArgumentException("File size exceeds maximum allowed size");
+                }
+                digest.update(buffer, 0, length);
+                ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, length);
+                while (chunk.hasRemaining()) {
+                    channel.write(chunk);
+                }
+                readStart = System.nanoTime();
+                length = in.read(buffer);
+                readNanos += System.nanoTime() - readStart;
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(partFile);
+            throw e;
+        }
+
+        // Content-addressed: identical bytes always land on the same blob
+        String sha256 = HexFormat.of().formatHex(digest.digest());
+        Path target = directory.resolve(sha256 + "." + documentType.getExtension());
+        try {
+            acquire(sha256, partFile, target);
+        } catch (RuntimeException e) {
+            Files.deleteIfExists(partFile);
+            throw e;
+        }
+        log.info("File saved successfully to: {} ({} bytes)", target, size);
+        // The write phase includes the reads of every chunk after the first
+        resumeMetrics.recordStore(readNanos, System.nanoTime() - writeStart - (readNanos - headReadNanos));
+
+        return new StoredFile(target, size, sha256, documentType);
+    }
+
+    /**
+     * Take a reference to the blob and put the part file in place if the blob is missing.
+     * The file is checked while the reference row is locked, so a delete of the last
+     * reference cannot remove it between the check and the upload's commit.
+     */
+    private void acquire(String sha256, Path partFile, Path target) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (jdbcTemplate.update(INCREMENT_SQL, sha256) == 0) {
+                        jdbcTemplate.update(INSERT_SQL, sha256, Timestamp.valueOf(LocalDateTime.now()));
+                    }
+                    try {
+                        if (Files.exists(target)) {
+                            Files.deleteIfExists(partFile);
+                            log.info("Upload matches existing blob: {}", target);
+                        } else {
+                            Files.move(partFile, target, StandardCopyOption.ATOMIC_MOVE);
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                return;
+            } catch (DuplicateKeyException e) {
+                if (attempt == WRITE_ATTEMPTS) {
+                    throw e;
+                }
+                log.info("Blob {} registered concurrently; retrying the reference", sha256);
+            }
+        }
+    }
+
+    /**
+     * Drop one reference to a blob inside the caller's transaction and return true if it
+     * was the last one. The file is then moved aside before the commit, while the row is
+     * locked, and deleted after it; a rollback puts it back. Files of rows that predate
+     * reference counting are never deleted.
+     */
+    public boolean release(String contentHash, String filePath) {
+        if (jdbcTemplate.update(DECREMENT_SQL, contentHash) == 0) {
+            log.warn("No reference count for blob {}; keeping {}", contentHash, filePath);
+            return false;
+        }
+        Integer count = jdbcTemplate.queryForObject(COUNT_SQL, Integer.class, contentHash);
+        if (count == null || count > 0) {
+            return false;
+        }
+        jdbcTemplate.update(DELETE_SQL, contentHash);
+
+        Path blob = Paths.get(filePath);
+        Path tombstone = blob.resolveSibling(blob.getFileName() + "." + UUID.randomUUID() + ".deleted");
+        try {
+            Files.move(blob, tombstone, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException e) {
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        Files.deleteIfExists(tombstone);
+                    } else {
+                        Files.move(tombstone, blob, StandardCopyOption.ATOMIC_MOVE);
+                    }
+                } catch (IOException e) {
+                    log.warn("Could not clean up deleted blob {}: {}", tombstone, e.getMessage());
+                }
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Remove a stored file, ignoring files that are already gone
+     */
+    public void delete(String filePath) {
+        try {
+            Files.deleteIfExists(Paths.get(filePath));
+        } catch (IOException e) {
+            log.warn("Could not delete stored file {}: {}", filePath, e.getMessage());
+        }
+    }
+
+    /**
+     * Fill the buffer with at least enough bytes to identify the document type
+     */
+    private int readHead(InputStream in, byte[] buffer) throws IOException {
+        int total = 0;
+        while (total < DocumentType.SNIFF_LENGTH) {
+            int read = in.read(buffer, total, buffer.length - total);
+            if (read == -1) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    private DocumentType validateType(String fileName, byte[] head, int headLength) {
+        String extension = fileName == null || fileName.lastIndexOf('.') < 0
+                ? ""
+                : fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        if (!allowedExtensions.contains(extension)) {
+            throw new IllegalArgumentException("File type not allowed. Allowed extensions: " + allowedExtensions);
+        }
+
+        DocumentType detected = DocumentType.detect(head, headLength)
+                .orElseThrow(() -> new IllegalArgumentException("File content is not a supported document"));
+        if (!detected.getExtension().equals(extension)) {
+            throw new IllegalArgumentException("File content does not match its ." + extension + " extension");
+        }
+        return detected;
+    }
+
+    private MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.resumereview.service;
+
+import com.resumereview.dto.ReviewScoreBatchItem;
+import com.resumereview.dto.ReviewScoreBatchRequest;
+import com.resumereview.dto.ReviewScoreBatchResult;
+import com.resumereview.model.CompressedTextConverter;
+import com.resumereview.model.ResumeFeatures;
+import com.resumereview.model.ReviewScore;
+import com.resumereview.repository.ResumeRepository;
+import com.resumereview.repository.ResumeSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+@Slf4j
+public class ReviewScoreBatchService {
+
+    private static final String INSERT_SQL = "INSERT INTO review_scores (resume_id, overall_score, format_score, "
+            + "content_score, keyword_score, feedback, suggestions, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL = "UPDATE review_scores SET overall_score = ?, format_score = ?, "
+            + "content_score = ?, keyword_score = ?, feedback = ?, suggestions = ?, updated_at = ? WHERE resume_id = ?";
+
+    private static final String EXISTING_SQL = "SELECT DISTINCT resume_id FROM review_scores WHERE resume_id IN (:ids)";
+
+    private static final int WRITE_ATTEMPTS = 3;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private ResumeFeatureService resumeFeatureService;
+
+    @Autowired
+    private ReviewScoreService reviewScoreService;
+
+    @Autowired
+    private ResumeResultCache resumeResultCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier("reviewScoringExecutor")
+    private ThreadPoolTaskExecutor executor;
+
+    @Value("${app.review-scoring.batch.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.review-scoring.batch.max-resumes:10000}")
+    private int maxResumes;
+
+    /**
+     * Score every selected resume, splitting the work into chunks that are scored
+     * and written in parallel; each chunk replaces the existing scores of its resumes
+     */
+    public ReviewScoreBatchResult generateReviewScores(ReviewScoreBatchRequest request) {
+        long started = System.currentTimeMillis();
+        List<ReviewScoreBatchItem> results = new ArrayList<>();
+        List<ResumeSummary> resumes = selectResumes(request, results);
+        if (resumes.size() > maxResumes) {
+            throw new IllegalArgumentException("Batch selects more than " + maxResumes
+                    + " resumes; the limit is " + maxResumes);
+        }
+        log.info("Batch scoring {} resumes in chunks of {}", resumes.size(), chunkSize);
+
+        List<CompletableFuture<List<ReviewScoreBatchItem>>> chunks = new ArrayList<>();
+        for (int from = 0; from < resumes.size(); from += chunkSize) {
+            List<ResumeSummary> chunk = resumes.subList(from, Math.min(from + chunkSize, resumes.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> scoreChunk(chunk), executor));
+        }
+        for (CompletableFuture<List<ReviewScoreBatchItem>> chunk : chunks) {
+            results.addAll(chunk.join());
+        }
+
+        int scored = (int) results.stream().filter(ReviewScoreBatchItem::isSuccess).count();
+        ReviewScoreBatchResult result = new ReviewScoreBatchResult(results.size(), scored, results.size() - scored,
+                System.currentTimeMillis() - started, results);
+        log.info("Batch scoring finished: {} scored, {} failed in {} ms",
+                result.getScored(), result.getFailed(), result.getDurationMs());
+        return result;
+    }
+
+    /**
+     * Resolve the request to resume summaries; unknown explicit ids are reported as failures.
+     * Filtered selections read at most one row past the limit, enough to reject an oversized batch.
+     */
+    private List<ResumeSummary> selectResumes(ReviewScoreBatchRequest request, List<ReviewScoreBatchItem> results) {
+        if (request.getResumeIds() != null && !request.getResumeIds().isEmpty()) {
+            Set<Long> ids = new LinkedHashSet<>(request.getResumeIds());
+            if (ids.size() > maxResumes) {
+                throw new IllegalArgumentException("Batch selects " + ids.size() + " resumes; the limit is " + maxResumes);
+            }
+            List<ResumeSummary> resumes = resumeRepository.findSummariesByIdIn(ids);
+            Set<Long> found = new HashSet<>();
+            resumes.forEach(resume -> found.add(resume.getId()));
+            for (Long id : ids) {
+                if (!found.contains(id)) {
+                    results.add(new ReviewScoreBatchItem(id, false, null, "Resume not found with ID: " + id));
+                }
+            }
+            return resumes;
+        }
+
+        boolean hasRange = request.getUploadedFrom() != null || request.getUploadedTo() != null;
+        if (request.getStatus() == null && !hasRange) {
+            throw new IllegalArgumentException("Provide resumeIds, status or an uploadedFrom/uploadedTo range");
+        }
+        Pageable overLimit = PageRequest.of(0, maxResumes + 1);
+        if (!hasRange) {
+            return resumeRepository.findSummariesByStatusOrderByIdAsc(request.getStatus(), overLimit);
+        }
+        if (request.getUploadedFrom() == null || request.getUploadedTo() == null) {
+            throw new IllegalArgumentException("uploadedFrom and uploadedTo must be given together");
+        }
+        return request.getStatus() == null
+                ? resumeRepository.findSummariesByUploadedAtBetweenOrderByIdAsc(
+                        request.getUploadedFrom(), request.getUploadedTo(), overLimit)
+                : resumeRepository.findSummariesByStatusAndUploadedAtBetweenOrderByIdAsc(
+                        request.getStatus(), request.getUploadedFrom(), request.getUploadedTo(), overLimit);
+    }
+
+    /**
+     * Score one chunk from its feature records and write the rows in two JDBC batches
+     */
+    private List<ReviewScoreBatchItem> scoreChunk(List<ResumeSummary> chunk) {
+        List<Long> ids = chunk.stream().map(ResumeSummary::getId).toList();
+        List<ReviewScoreBatchItem> results = new ArrayList<>(chunk.size());
+
+        Map<Long, ResumeFeatures> features;
+        try {
+            features = resumeFeatureService.getFeatures(ids);
+        } catch (RuntimeException e) {
+            log.error("Failed to load features for batch chunk starting at resume ID: {}", ids.get(0), e);
+            ids.forEach(id -> results.add(new ReviewScoreBatchItem(id, false, null, e.getMessage())));
+            return results;
+        }
+
+        Map<Long, ReviewScore> scores = new HashMap<>();
+        for (ResumeSummary resume : chunk) {
+            try {
+                scores.put(resume.getId(), reviewScoreService.scoreFeatures(resume.getFileName(), features.get(resume.getId())));
+            } catch (RuntimeException e) {
+                log.warn("Failed to score resume ID: {}", resume.getId(), e);
+                results.add(new ReviewScoreBatchItem(resume.getId(), false, null, e.getMessage()));
+            }
+        }
+
+        try {
+            writeScores(scores);
+        } catch (RuntimeException e) {
+            log.error("Failed to write batch chunk starting at resume ID: {}", ids.get(0), e);
+            scores.keySet().forEach(id -> results.add(new ReviewScoreBatchItem(id, false, null, e.getMessage())));
+            return results;
+        }
+        scores.forEach((id, score) -> {
+            resumeResultCache.invalidateReviewScore(id);
+            results.add(new ReviewScoreBatchItem(id, true, score.getOverallScore(), null));
+        });
+        return results;
+    }
+
+    /**
+     * Write a chunk's scores, retrying when a concurrent single-resume generation inserts
+     * a score for one of its resumes first; the retry sees that row and updates it instead
+     */
+    private void writeScores(Map<Long, ReviewScore> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertOrUpdateScores(scores));
+                return;
+            } catch (DuplicateKeyException e) {
+                if (attempt == WRITE_ATTEMPTS) {
+                    throw e;
+                }
+                log.info("Review score inserted concurrently for a resume in the chunk; retrying the write");
+            }
+        }
+    }
+
+    private void insertOrUpdateScores(Map<Long, ReviewScore> scores) {
+        Set<Long> existing = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                EXISTING_SQL, Map.of("ids", scores.keySet()), Long.class));
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        scores.forEach((resumeId, score) -> {
+            Timestamp createdAt = Timestamp.valueOf(score.getCreatedAt());
+            Timestamp updatedAt = Timestamp.valueOf(score.getUpdatedAt());
+            if (existing.contains(resumeId)) {
+                updates.add(new Object[]{score.getOverallScore(), score.getFormatScore(), score.getContentScore(),
+                        score.getKeywordScore(), compress(score.getFeedback()), compress(score.getSuggestions()), updatedAt, resumeId});
+            } else {
+                inserts.add(new Object[]{resumeId, score.getOverallScore(), score.getFormatScore(), score.getContentScore(),
+                        score.getKeywordScore(), compress(score.getFeedback()), compress(score.getSuggestions()), createdAt, updatedAt});
+            }
+        });
+
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+        }
+    }
+
+    /**
+     * Same encoding the entity converter applies, since these writes bypass JPA
+     */
+    private static byte[] compress(String text) {
+        return text == null ? null : CompressedTextConverter.compress(text);
+    }
+}
@@ -1,19 +1,20 @@
 package com.resumereview.service;
 
-import com.resumereview.model.Resume;
+import com.resumereview.model.ResumeFeatures;
+import com.resumereview.model.ResumeSection;
 import com.resumereview.model.ReviewScore;
 import com.resumereview.dto.ReviewScoreDTO;
 import com.resumereview.repository.ReviewScoreRepository;
 import com.resumereview.repository.ResumeRepository;
+import com.resumereview.repository.ResumeSummary;
 import com.resumereview.exception.ResourceNotFoundException;
+import com.resumereview.service.ResumeMetrics.ScoringFunction;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 @Service
 @Slf4j
@@ -25,41 +26,69 @@ public class ReviewScoreService {
     @Autowired
     private ResumeRepository resumeRepository;
 
+    @Autowired
+    private ResumeFeatureService resumeFeatureService;
+
+    @Autowired
+    private ResumeResultCache resumeResultCache;
+
+    @Autowired
+    private ResumeMetrics resumeMetrics;
+
+    @Autowired
+    private ResumeEventPublisher resumeEventPublisher;
+
     /**
      * Generate review score for a resume
      */
     public ReviewScore generateReviewScore(Long resumeId) {
         log.info("Generating review score for resume ID: {}", resumeId);
 
-        Resume resume = resumeRepository.findById(resumeId)
+        // Only the narrow row is needed; text-derived inputs come from the feature record, which
+        // is rebuilt when the vocabulary changes, so scoring it again is cheap and never stale
+        ResumeSummary resume = resumeRepository.findSummaryById(resumeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Resume not found with ID: " + resumeId));
+        ReviewScore reviewScore = scoreFeatures(resume.getFileName(), resumeFeatureService.getFeatures(resumeId));
+        reviewScore.setResume(resumeRepository.getReferenceById(resumeId));
 
-        // Calculate scores
-        double formatScore = calculateFormatScore(resume.getFileName());
-        double contentScore = calculateContentScore(resume.getExtractedText());
-        double keywordScore = calculateKeywordScore(resume.getExtractedText());
-        double overallScore = (formatScore + contentScore + keywordScore) / 3;
+        // Regeneration replaces the resume's score in place
+        reviewScoreRepository.findByResume(reviewScore.getResume()).ifPresent(existing -> {
+            reviewScore.setId(existing.getId());
+            reviewScore.setCreatedAt(existing.getCreatedAt());
+        });
+
+        ReviewScore savedScore = reviewScoreRepository.save(reviewScore);
+        resumeResultCache.invalidateReviewScore(resumeId);
+        resumeEventPublisher.scored(resumeId, savedScore.getOverallScore());
+        log.info("Review score generated with ID: {}", savedScore.getId());
+
+        return savedScore;
+    }
+
+    /**
+     * Compute an unsaved review score from the file name and feature record
+     */
+    public ReviewScore scoreFeatures(String fileName, ResumeFeatures features) {
+        return buildReviewScore(resumeMetrics.timeScoring(ScoringFunction.FORMAT, () -> calculateFormatScore(fileName)),
+                resumeMetrics.timeScoring(ScoringFunction.CONTENT, () -> calculateContentScore(features)),
+                resumeMetrics.timeScoring(ScoringFunction.KEYWORD, () -> calculateKeywordScore(features)),
+                resumeMetrics.timeScoring(ScoringFunction.SUGGESTIONS, () -> generateSuggestions(features)));
+    }
 
-        // Generate feedback and suggestions
-        String feedback = generateFeedback(formatScore, contentScore, keywordScore);
-        String suggestions = generateSuggestions(resume.getExtractedText());
+    private ReviewScore buildReviewScore(double formatScore, double contentScore, double keywordScore, String suggestions) {
+        double overallScore = (formatScore + contentScore + keywordScore) / 3;
 
-        // Create review score
         ReviewScore reviewScore = new ReviewScore();
-        reviewScore.setResume(resume);
         reviewScore.setOverallScore(Math.min(overallScore, 100.0));
         reviewScore.setFormatScore(Math.min(formatScore, 100.0));
         reviewScore.setContentScore(Math.min(contentScore, 100.0));
         reviewScore.setKeywordScore(Math.min(keywordScore, 100.0));
-        reviewScore.setFeedback(feedback);
+        reviewScore.setFeedback(resumeMetrics.timeScoring(ScoringFunction.FEEDBACK,
+                () -> generateFeedback(formatScore, contentScore, keywordScore)));
         reviewScore.setSuggestions(suggestions);
         reviewScore.setCreatedAt(LocalDateTime.now());
         reviewScore.setUpdatedAt(LocalDateTime.now());
-
-        ReviewScore savedScore = reviewScoreRepository.save(reviewScore);
-        log.info("Review score generated with ID: {}", savedScore.getId());
-
-        return savedScore;
+        return reviewScore;
     }
 
     /**
@@ -84,24 +113,23 @@ public class ReviewScoreService {
     /**
      * Calculate content score based on extracted text analysis
      */
-    private double calculateContentScore(String text) {
-        if (text == null || text.isEmpty()) {
+    double calculateContentScore(ResumeFeatures features) {
+        if (features.isEmpty()) {
             return 20.0;
         }
 
         double score = 50.0;
 
         // Check for common resume sections
-        text = text.toLowerCase();
-        if (text.contains("experience") || text.contains("employment")) score += 15;
-        if (text.contains("education") || text.contains("degree")) score += 10;
-        if (text.contains("skill")) score += 10;
-        if (text.contains("project") || text.contains("achievement")) score += 10;
-        if (text.contains("certification") || text.contains("license")) score += 5;
+        if (features.hasSection(ResumeSection.EXPERIENCE)) score += 15;
+        if (features.hasSection(ResumeSection.EDUCATION)) score += 10;
+        if (features.hasSection(ResumeSection.SKILLS)) score += 10;
+        if (features.hasSection(ResumeSection.PROJECTS)) score += 10;
+        if (features.hasSection(ResumeSection.CERTIFICATIONS)) score += 5;
 
         // Check for contact information
-        if (text.contains("email") || text.contains("@")) score += 5;
-        if (text.contains("phone") || text.matches(".*\\d{3}[-.]?\\d{3}[-.]?\\d{4}.*")) score += 5;
+        if (features.hasTerm("email") || features.hasTerm("@")) score += 5;
+        if (features.hasTerm("phone") || features.getHasPhone()) score += 5;
 
         return Math.min(score, 100.0);
     }
@@ -109,26 +137,21 @@ public class ReviewScoreService {
     /**
      * Calculate keyword score based on industry keywords
      */
-    private double calculateKeywordScore(String text) {
-        if (text == null || text.isEmpty()) {
+    double calculateKeywordScore(ResumeFeatures features) {
+        if (features.isEmpty()) {
             return 20.0;
         }
 
         double score = 40.0;
-        text = text.toLowerCase();
 
         // Technical skills keywords
-        String[] techKeywords = {"java", "python", "javascript", "sql", "rest api", "cloud", 
-                               "aws", "docker", "kubernetes", "git", "spring", "react", "angular"};
-        for (String keyword : techKeywords) {
-            if (text.contains(keyword)) score += 2;
+        for (String keyword : FeatureVocabulary.TECH_TERMS) {
+            if (features.hasTerm(keyword)) score += 2;
         }
 
         // Soft skills keywords
-        String[] softKeywords = {"leadership", "communication", "teamwork", "problem solving", 
-                               "project management", "agile", "analytical"};
-        for (String keyword : softKeywords) {
-            if (text.contains(keyword)) score += 1.5;
+        for (String keyword : FeatureVocabulary.SOFT_TERMS) {
+            if (features.hasTerm(keyword)) score += 1.5;
         }
 
         return Math.min(score, 100.0);
@@ -170,36 +193,34 @@ public class ReviewScoreService {
     /**
      * Generate suggestions for improvement
      */
-    private String generateSuggestions(String text) {
+    String generateSuggestions(ResumeFeatures features) {
         StringBuilder suggestions = new StringBuilder();
 
-        if (text == null || text.isEmpty()) {
+        if (features.isEmpty()) {
             return "Resume content could not be extracted. Ensure the PDF is valid.";
         }
 
-        text = text.toLowerCase();
-
-        if (!text.contains("experience")) {
+        if (!features.hasTerm("experience")) {
             suggestions.append("✓ Add a detailed 'Experience' section with your work history.\n");
         }
 
-        if (!text.contains("education")) {
+        if (!features.hasTerm("education")) {
             suggestions.append("✓ Include an 'Education' section with degrees and certifications.\n");
         }
 
-        if (!text.contains("skill")) {
+        if (!features.hasTerm("skill")) {
             suggestions.append("✓ Create a 'Skills' section highlighting technical and soft skills.\n");
         }
 
-        if (!text.contains("project")) {
+        if (!features.hasTerm("project")) {
             suggestions.append("✓ Consider adding a 'Projects' section showcasing your work.\n");
         }
 
-        if (!text.matches(".*[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}.*")) {
+        if (!features.getHasEmail()) {
             suggestions.append("✓ Make sure your email address is clearly visible.\n");
         }
 
-        if (text.length() < 500) {
+        if (features.getTextLength() < 500) {
             suggestions.append("✓ Expand your resume content for more detailed information.\n");
         }
 
@@ -214,13 +235,21 @@ public class ReviewScoreService {
      * Get review score for a resume
      */
     public ReviewScore getReviewScore(Long resumeId) {
-        Resume resume = resumeRepository.findById(resumeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Resume not found with ID: " + resumeId));
+        if (!resumeRepository.existsById(resumeId)) {
+            throw new ResourceNotFoundException("Resume not found with ID: " + resumeId);
+        }
 
-        return reviewScoreRepository.findByResume(resume)
+        return reviewScoreRepository.findByResume(resumeRepository.getReferenceById(resumeId))
                 .orElseThrow(() -> new ResourceNotFoundException("Review score not found for resume ID: " + resumeId));
     }
 
+    /**
+     * Get the review score of a resume in DTO form, served from the result cache
+     */
+    public ReviewScoreDTO getReviewScoreDTO(Long resumeId) {
+        return resumeResultCache.getReviewScore(resumeId, id -> convertToDTO(getReviewScore(id)));
+    }
+
     /**
      * Convert to DTO
      */
@@ -232,7 +261,8 @@ public class ReviewScoreService {
                 reviewScore.getContentScore(),
                 reviewScore.getKeywordScore(),
                 reviewScore.getFeedback(),
-                reviewScore.getSuggestions()
+                reviewScore.getSuggestions(),
+                reviewScore.getUpdatedAt()
         );
     }
 }
@@ -0,0 +1,152 @@
+package com.resumereview.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Per-request breakdown of where time went (storage, extraction, scoring, db,
+ * serialization), reported in the {@code Server-Timing} response header.
+ * Bound to the request thread only for endpoints that opt in; everywhere else,
+ * including background pools, {@link #record} is a no-op.
+ */
+public final class StageTimings {
+
+    public static final String HEADER = "Server-Timing";
+
+    public static final String RECEIVE = "receive";
+    public static final String STORAGE = "storage";
+    public static final String EXTRACTION = "extraction";
+    public static final String SCORING = "scoring";
+    public static final String MATCHING = "matching";
+    public static final String DB = "db";
+    public static final String SERIALIZATION = "serialization";
+    public static final String TOTAL = "total";
+
+    private static final ThreadLocal<StageTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Long> stageNanos = new LinkedHashMap<>();
+    private long serializationStartNanos;
+
+    private StageTimings() {
+    }
+
+    /**
+     * Start collecting stage timings on the current thread
+     */
+    public static StageTimings begin() {
+        StageTimings timings = new StageTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /**
+     * Stop collecting on the current thread
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * The timings collected on the current thread, or null when none are
+     */
+    public static StageTimings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Add time to a stage of the current request, if it collects timings
+     */
+    public static void record(String stage, long nanos) {
+        StageTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.stageNanos.merge(stage, nanos, Long::sum);
+        }
+    }
+
+    /**
+     * Count the commit of the current transaction, where batched writes are flushed, as db time
+     */
+    public static void recordCommit() {
+        StageTimings timings = CURRENT.get();
+        if (timings == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof CommitTiming) {
+                return;
+            }
+        }
+        TransactionSynchronizationManager.registerSynchronization(new CommitTiming(timings));
+    }
+
+    /**
+     * Mark the point the handler returned and the response body starts being written
+     */
+    public void serializationStarted() {
+        serializationStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Close the serialization stage, if it started
+     */
+    public void serializationFinished() {
+        if (serializationStartNanos != 0) {
+            stageNanos.merge(SERIALIZATION, System.nanoTime() - serializationStartNanos, Long::sum);
+            serializationStartNanos = 0;
+        }
+    }
+
+    /**
+     * Stage durations in milliseconds so far, followed by the total
+     */
+    public Map<String, Double> toMillis() {
+        Map<String, Double> millis = new LinkedHashMap<>();
+        stageNanos.forEach((stage, nanos) -> millis.put(stage, toMillis(nanos)));
+        millis.put(TOTAL, toMillis(System.nanoTime() - startNanos));
+        return millis;
+    }
+
+    /**
+     * Value of the {@code Server-Timing} header, e.g. {@code storage;dur=1.2, db;dur=3.4, total;dur=9.9}
+     */
+    public String toHeader() {
+        return toMillis().entrySet().stream()
+                .map(entry -> String.format(Locale.ROOT, "%s;dur=%.1f", entry.getKey(), entry.getValue()))
+                .collect(Collectors.joining(", "));
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 100_000.0) / 10.0;
+    }
+
+    /**
+     * Times the flush and commit of a transaction
+     */
+    private static final class CommitTiming implements TransactionSynchronization {
+
+        private final StageTimings timings;
+        private long startNanos;
+
+        CommitTiming(StageTimings timings) {
+            this.timings = timings;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            startNanos = System.nanoTime();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (startNanos != 0) {
+                timings.stageNanos.merge(DB, System.nanoTime() - startNanos, Long::sum);
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.resumereview.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.file.Path;
+
+/**
+ * Result of streaming an upload to disk
+ */
+@Data
+@AllArgsConstructor
+public class StoredFile {
+    private Path path;
+    private long size;
+    private String sha256;
+    private DocumentType documentType;
+}
@@ -0,0 +1,192 @@
+package com.resumereview.service;
+
+import com.resumereview.model.CompressedTextConverter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Rewrites text columns that still hold plain UTF-8 (rows written before the
+ * columns became binary) into the compressed format. Safe to run repeatedly
+ * and while the application is serving: rows are scanned in key order, and a
+ * rewrite is skipped when the row's version column moved since it was read.
+ */
+@Service
+@Slf4j
+public class TextCompressionMigrationService {
+
+    private static final List<Target> TARGETS = List.of(
+            new Target("resume_texts", "content_hash", null, "extracted_text"),
+            new Target("review_scores", "id", "updated_at", "feedback", "suggestions"),
+            new Target("job_suggestions", "id", "suggested_at", "description"));
+
+    private static final Set<Integer> BINARY_TYPES = Set.of(
+            Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY, Types.BLOB);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.text-compression.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Fail when a compressed column still has a text type. ddl-auto=update does not
+     * convert existing columns, and reads would otherwise fail on the first row.
+     */
+    public void checkColumnTypes() {
+        List<String> textColumns = jdbcTemplate.execute((ConnectionCallback<List<String>>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            List<String> found = new ArrayList<>();
+            for (Target target : TARGETS) {
+                for (String column : target.columns()) {
+                    String table = identifier(metaData, target.table());
+                    try (ResultSet rs = metaData.getColumns(connection.getCatalog(), null, table, identifier(metaData, column))) {
+                        if (rs.next() && !BINARY_TYPES.contains(rs.getInt("DATA_TYPE"))) {
+                            found.add(target.table() + "." + column + " (" + rs.getString("TYPE_NAME") + ")");
+                        }
+                    }
+                }
+            }
+            return found;
+        });
+        if (!textColumns.isEmpty()) {
+            throw new IllegalStateException("Compressed text columns still have a text type: " + textColumns
+                    + ". Convert them to binary (bytea / LONGBLOB) as described under \"Compressed Text Columns\""
+                    + " in the README, then restart with app.text-compression.migrate-on-startup=true");
+        }
+    }
+
+    private static String identifier(DatabaseMetaData metaData, String name) throws SQLException {
+        if (metaData.storesUpperCaseIdentifiers()) {
+            return name.toUpperCase(Locale.ROOT);
+        }
+        return metaData.storesLowerCaseIdentifiers() ? name.toLowerCase(Locale.ROOT) : name;
+    }
+
+    /**
+     * Compress every legacy value, returning the number of rewritten rows per table
+     */
+    public Map<String, Integer> migrate() {
+        Map<String, Integer> rewritten = new LinkedHashMap<>();
+        for (Target target : TARGETS) {
+            int rows = migrate(target);
+            rewritten.put(target.table(), rows);
+            if (rows > 0) {
+                log.info("Compressed legacy text in {} rows of {}", rows, target.table());
+            }
+        }
+        return rewritten;
+    }
+
+    private int migrate(Target target) {
+        int rewritten = 0;
+        Object lastKey = null;
+        while (true) {
+            List<Object[]> rows = lastKey == null
+                    ? jdbcTemplate.query(target.firstPageSql(), (rs, i) -> target.read(rs), batchSize)
+                    : jdbcTemplate.query(target.nextPageSql(), (rs, i) -> target.read(rs), lastKey, batchSize);
+            if (rows.isEmpty()) {
+                return rewritten;
+            }
+
+            List<Object[]> updates = new ArrayList<>();
+            for (Object[] row : rows) {
+                Object[] update = target.compressLegacy(row);
+                if (update != null) {
+                    updates.add(update);
+                }
+            }
+            if (!updates.isEmpty()) {
+                int[] counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(target.updateSql(), updates));
+                rewritten += (int) Arrays.stream(counts).filter(count -> count != 0).count();
+            }
+            lastKey = rows.get(rows.size() - 1)[0];
+        }
+    }
+
+    /**
+     * A table with a scan key, an optional version column guarding concurrent writes, and its compressed columns
+     */
+    private record Target(String table, String key, String version, String... columns) {
+
+        String firstPageSql() {
+            return select() + " ORDER BY " + key + " LIMIT ?";
+        }
+
+        String nextPageSql() {
+            return select() + " WHERE " + key + " > ? ORDER BY " + key + " LIMIT ?";
+        }
+
+        String updateSql() {
+            String assignments = Arrays.stream(columns).map(column -> column + " = ?").collect(Collectors.joining(", "));
+            return "UPDATE " + table + " SET " + assignments + " WHERE " + key + " = ?"
+                    + (version == null ? "" : " AND " + version + " = ?");
+        }
+
+        private String select() {
+            return "SELECT " + key + (version == null ? "" : ", " + version) + ", "
+                    + String.join(", ", columns) + " FROM " + table;
+        }
+
+        /**
+         * Key, version (if any), then the raw column bytes
+         */
+        Object[] read(ResultSet rs) throws SQLException {
+            int offset = version == null ? 1 : 2;
+            Object[] row = new Object[offset + columns.length];
+            row[0] = rs.getObject(1);
+            if (version != null) {
+                row[1] = rs.getObject(2);
+            }
+            for (int i = 0; i < columns.length; i++) {
+                row[offset + i] = rs.getBytes(offset + i + 1);
+            }
+            return row;
+        }
+
+        /**
+         * Update arguments for the row, or null when nothing in it is legacy
+         */
+        Object[] compressLegacy(Object[] row) {
+            int offset = version == null ? 1 : 2;
+            Object[] args = new Object[columns.length + offset];
+            boolean legacy = false;
+            for (int i = 0; i < columns.length; i++) {
+                byte[] value = (byte[]) row[offset + i];
+                if (value != null && CompressedTextConverter.isLegacy(value)) {
+                    legacy = true;
+                    value = CompressedTextConverter.compress(CompressedTextConverter.decompress(value));
+                }
+                args[i] = value;
+            }
+            if (!legacy) {
+                return null;
+            }
+            args[columns.length] = row[0];
+            if (version != null) {
+                args[columns.length + 1] = row[1];
+            }
+            return args;
+        }
+    }
+}
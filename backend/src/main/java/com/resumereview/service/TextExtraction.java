@@ -0,0 +1,23 @@
+package com.resumereview.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Text pulled from a document together with what it cost to get it
+ */
+@Data
+@AllArgsConstructor
+public class TextExtraction {
+    private String text;
+    /** Pages read and pages in the document; both 0 for formats without a page model (Word) */
+    private int pagesProcessed;
+    private int totalPages;
+    /** Stopped at the page cap or the time limit, so text covers only the start of the document */
+    private boolean truncated;
+    /** Truncated by the time limit rather than a size cap, so a later attempt may get further */
+    private boolean timedOut;
+    /** Heap allocated by the extracting thread, or -1 when the JVM cannot measure it */
+    private long bytesAllocated;
+    private long durationMs;
+}
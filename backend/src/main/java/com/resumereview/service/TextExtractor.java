@@ -0,0 +1,39 @@
+package com.resumereview.service;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Pulls plain text out of one document format; implementations are picked up
+ * by {@link TextExtractorRegistry} and must be thread-safe
+ */
+public interface TextExtractor {
+
+    /**
+     * Format this extractor reads
+     */
+    DocumentType getDocumentType();
+
+    /**
+     * Extract the text of a file of this format; duration and allocation are filled in by the registry
+     */
+    default TextExtraction extract(File file) throws IOException {
+        return extract(file, PageListener.NONE);
+    }
+
+    /**
+     * Extract the text of a file of this format, reporting each finished page to the listener
+     */
+    TextExtraction extract(File file, PageListener listener) throws IOException;
+
+    /**
+     * Told after each page is extracted; formats without pages never call it
+     */
+    @FunctionalInterface
+    interface PageListener {
+
+        PageListener NONE = (pagesProcessed, pagesToProcess) -> { };
+
+        void pageExtracted(int pagesProcessed, int pagesToProcess);
+    }
+}
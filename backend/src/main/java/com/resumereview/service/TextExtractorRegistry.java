@@ -0,0 +1,90 @@
+package com.resumereview.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Routes a stored file to the extractor for its detected document type and
+ * records what each extraction cost
+ */
+@Component
+@Slf4j
+public class TextExtractorRegistry {
+
+    @Autowired
+    private List<TextExtractor> extractors;
+
+    @Autowired
+    private ResumeMetrics resumeMetrics;
+
+    private final Map<DocumentType, TextExtractor> extractorsByType = new EnumMap<>(DocumentType.class);
+
+    @PostConstruct
+    void registerExtractors() {
+        for (TextExtractor extractor : extractors) {
+            TextExtractor previous = extractorsByType.put(extractor.getDocumentType(), extractor);
+            if (previous != null) {
+                throw new IllegalStateException("Two text extractors registered for " + extractor.getDocumentType());
+            }
+        }
+    }
+
+    /**
+     * Extract the text of a file with the extractor registered for its type
+     */
+    public TextExtraction extract(File file, DocumentType type) throws IOException {
+        return extract(file, type, TextExtractor.PageListener.NONE);
+    }
+
+    /**
+     * Extract the text of a file, reporting page progress to the listener
+     */
+    public TextExtraction extract(File file, DocumentType type, TextExtractor.PageListener listener) throws IOException {
+        TextExtractor extractor = extractorsByType.get(type);
+        if (extractor == null) {
+            throw new IOException("No text extractor for " + type);
+        }
+
+        long startNanos = System.nanoTime();
+        long startBytes = allocatedBytes();
+        TextExtraction extraction = null;
+        resumeMetrics.extractionStarted();
+        try {
+            extraction = extractor.extract(file, listener);
+            extraction.setBytesAllocated(startBytes < 0 ? -1 : allocatedBytes() - startBytes);
+        } finally {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            resumeMetrics.recordExtraction(type, file.length(), extraction, elapsedNanos);
+            if (extraction != null) {
+                extraction.setDurationMs(Duration.ofNanos(elapsedNanos).toMillis());
+            }
+        }
+
+        log.info("Extracted {} characters from {} ({}, {} pages) in {} ms, {} bytes allocated",
+                extraction.getText().length(), file.getName(), type, extraction.getPagesProcessed(),
+                extraction.getDurationMs(), extraction.getBytesAllocated());
+        return extraction;
+    }
+
+    /**
+     * Heap allocated so far by the current thread, or -1 if unsupported
+     */
+    private static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean allocation && allocation.isThreadAllocatedMemorySupported()) {
+            return allocation.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+}
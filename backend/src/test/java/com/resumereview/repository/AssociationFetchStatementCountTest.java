@@ -0,0 +1,183 @@
+package com.resumereview.repository;
+
+import com.resumereview.dto.JobApplicationDTO;
+import com.resumereview.model.JobApplication;
+import com.resumereview.model.JobSuggestion;
+import com.resumereview.model.Resume;
+import com.resumereview.model.ReviewScore;
+import com.resumereview.service.JobApplicationService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Guards the lazy to-one associations: listing rows must cost the same number of
+ * statements however many rows there are, so an association turning eager again
+ * (and loading one suggestion, resume or score per row) fails here
+ */
+@DataJpaTest(showSql = false, properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@Import(JobApplicationService.class)
+class AssociationFetchStatementCountTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private JobSuggestionRepository jobSuggestionRepository;
+
+    @Autowired
+    private ReviewScoreRepository reviewScoreRepository;
+
+    @Autowired
+    private JobApplicationService jobApplicationService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void listingApplicationsForResumeCostsConstantStatements() {
+        Long fewId = seedResumeWithApplications(2);
+        Long manyId = seedResumeWithApplications(20);
+
+        long few = countStatements(() -> listApplications(fewId, 2));
+        long many = countStatements(() -> listApplications(manyId, 20));
+
+        // Resume lookup and the application query with its suggestions fetch-joined
+        assertEquals(2, few);
+        assertEquals(few, many);
+    }
+
+    @Test
+    void loadingRowsDoesNotLoadTheirAssociations() {
+        seedResumesWithOneApplicationEach(2);
+        long few = countStatements(this::loadAllRows);
+        seedResumesWithOneApplicationEach(18);
+        long many = countStatements(this::loadAllRows);
+
+        // One query per table, whatever the row count
+        assertEquals(3, few);
+        assertEquals(few, many);
+    }
+
+    private List<JobApplicationDTO> listApplications(Long resumeId, int expected) {
+        List<JobApplicationDTO> applications = jobApplicationService.convertListToDTO(
+                jobApplicationService.getApplicationsForResume(resumeId));
+        assertEquals(expected, applications.size());
+        return applications;
+    }
+
+    /**
+     * Read every application, suggestion and score, touching only their own columns and foreign keys
+     */
+    private int loadAllRows() {
+        int touched = 0;
+        for (JobApplication application : jobApplicationRepository.findAll()) {
+            touched += application.getStatus().length() + application.getResume().getId().intValue()
+                    + application.getJobSuggestion().getId().intValue();
+        }
+        for (JobSuggestion suggestion : jobSuggestionRepository.findAll()) {
+            touched += suggestion.getJobTitle().length() + suggestion.getResume().getId().intValue();
+        }
+        for (ReviewScore score : reviewScoreRepository.findAll()) {
+            touched += score.getOverallScore().intValue() + score.getResume().getId().intValue();
+        }
+        return touched;
+    }
+
+    /**
+     * Statements prepared by the work, run against an empty persistence context
+     */
+    private long countStatements(Supplier<?> work) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        work.get();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Long seedResumeWithApplications(int applications) {
+        Resume resume = persistResume();
+        for (int i = 0; i < applications; i++) {
+            persistApplication(resume, persistSuggestion(resume, i));
+        }
+        return resume.getId();
+    }
+
+    private void seedResumesWithOneApplicationEach(int resumes) {
+        for (int i = 0; i < resumes; i++) {
+            Resume resume = persistResume();
+            persistApplication(resume, persistSuggestion(resume, i));
+        }
+    }
+
+    private Resume persistResume() {
+        LocalDateTime now = LocalDateTime.now();
+        Resume resume = new Resume();
+        resume.setFileName("resume.pdf");
+        resume.setFilePath("/uploads/resume.pdf");
+        resume.setFileSize(1024L);
+        resume.setStatus("EXTRACTED");
+        resume.setUploadedAt(now);
+        resume.setUpdatedAt(now);
+        entityManager.persist(resume);
+
+        ReviewScore score = new ReviewScore();
+        score.setResume(resume);
+        score.setOverallScore(70.0);
+        score.setFormatScore(80.0);
+        score.setContentScore(70.0);
+        score.setKeywordScore(60.0);
+        score.setFeedback("Good resume format with room for improvement.");
+        score.setCreatedAt(now);
+        score.setUpdatedAt(now);
+        entityManager.persist(score);
+        return resume;
+    }
+
+    private JobSuggestion persistSuggestion(Resume resume, int index) {
+        JobSuggestion suggestion = new JobSuggestion();
+        suggestion.setResume(resume);
+        suggestion.setJobTitle("Backend Developer " + index);
+        suggestion.setCompany("Company " + index);
+        suggestion.setMatchScore(75.0);
+        suggestion.setStatus("ACTIVE");
+        suggestion.setSuggestedAt(LocalDateTime.now());
+        entityManager.persist(suggestion);
+        return suggestion;
+    }
+
+    private void persistApplication(Resume resume, JobSuggestion suggestion) {
+        JobApplication application = new JobApplication();
+        application.setResume(resume);
+        application.setJobSuggestion(suggestion);
+        application.setStatus("APPLIED");
+        application.setAppliedAt(LocalDateTime.now());
+        entityManager.persist(application);
+    }
+}